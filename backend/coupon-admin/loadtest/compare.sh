@@ -0,0 +1,33 @@
+#!/bin/sh
+# 플랫폼 스레드 / 가상 스레드 모드 부하 비교
+#
+# 1) 플랫폼 스레드 모드로 실행:  ./gradlew bootRun --args='--spring.profiles.active=local --app.upload.deduplication.enabled=false'
+#    ./compare.sh platform
+# 2) 가상 스레드 모드로 실행:    ./gradlew bootRun --args='--spring.profiles.active=local,virtual --app.upload.deduplication.enabled=false'
+#    ./compare.sh virtual
+#
+# 중복 제거가 켜져 있으면 같은 파일의 두 번째 업로드부터 업로드/검증 없이 해시 비교만으로 끝나므로 반드시 끄고 측정합니다.
+# (upload.js도 반복마다 내용을 다르게 만들지만, UNIQUE=false로 실행할 때를 위해 서버 설정도 함께 끔)
+# 3) 두 결과 요약 출력:          ./compare.sh report
+set -e
+cd "$(dirname "$0")"
+
+MODE=${1:?usage: compare.sh platform|virtual|report}
+VUS=${VUS:-200}
+DURATION=${DURATION:-2m}
+FILE=${FILE:-data/customers-100k.csv}
+
+if [ "$MODE" = "report" ]; then
+    for f in results/platform.json results/virtual.json; do
+        [ -f "$f" ] || continue
+        jq -r --arg name "$(basename "$f" .json)" \
+            '[$name, (.metrics.http_reqs.rate | floor | tostring) + " req/s",
+              "p99 " + (.metrics.http_req_duration["p(99)"] | floor | tostring) + " ms",
+              "failed " + (.metrics.http_req_failed.value * 100 | tostring) + "%"] | join("\t")' "$f"
+    done
+    exit 0
+fi
+
+[ -f "$FILE" ] || ./generate-csv.sh 100000 "$FILE"
+mkdir -p results
+k6 run -e VUS="$VUS" -e DURATION="$DURATION" -e FILE="$FILE" -e UNIQUE="${UNIQUE:-true}" --summary-export="results/$MODE.json" upload.js
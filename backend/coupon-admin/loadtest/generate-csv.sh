@@ -0,0 +1,15 @@
+#!/bin/sh
+# 부하 테스트용 customer_id CSV 생성
+# 사용법: ./generate-csv.sh 100000 data/customers-100k.csv
+set -e
+
+ROWS=${1:-100000}
+OUT=${2:-data/customers-${ROWS}.csv}
+
+mkdir -p "$(dirname "$OUT")"
+{
+    echo "customer_id"
+    seq 1000000001 $((1000000000 + ROWS))
+} > "$OUT"
+
+echo "generated $OUT ($ROWS rows)"
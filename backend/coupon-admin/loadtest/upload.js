@@ -0,0 +1,51 @@
+// 동시 업로드 부하 테스트 (k6)
+//
+// 사용법:
+//   k6 run -e VUS=200 -e DURATION=2m -e FILE=./data/customers-100k.csv \
+//          --summary-export=results/platform.json upload.js
+//
+// 결과 JSON의 metrics.http_req_duration (p(99)) 과 metrics.http_reqs (rate) 를 비교합니다.
+//
+// 서버의 내용 해시 중복 제거(app.upload.deduplication.enabled)가 같은 파일을 업로드/검증 없이 처리하지 않도록,
+// 반복마다 고유한 customer_id 한 행을 덧붙여 내용을 다르게 만듭니다. (UNIQUE=false면 같은 파일 그대로 전송)
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const FILE = __ENV.FILE || './data/customers-100k.csv';
+const UNIQUE = (__ENV.UNIQUE || 'true') !== 'false';
+const content = new Uint8Array(open(FILE, 'b'));
+
+export const options = {
+    scenarios: {
+        uploads: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 100),
+            duration: __ENV.DURATION || '2m',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+// VU 번호(6자리) + 반복 번호(11자리) 앞에 9를 붙인 18자리 customer_id (원본 파일의 ID와 겹치지 않음)
+function uniqueContent() {
+    const newline = content.length > 0 && content[content.length - 1] !== 10 ? '\n' : '';
+    const row = `${newline}9${String(__VU).padStart(6, '0')}${String(__ITER).padStart(11, '0')}\n`;
+    const body = new Uint8Array(content.length + row.length);
+    body.set(content);
+    for (let i = 0; i < row.length; i++) {
+        body[content.length + i] = row.charCodeAt(i);
+    }
+    return body.buffer;
+}
+
+export default function () {
+    const body = UNIQUE ? uniqueContent() : content.buffer;
+    const res = http.post(`${BASE_URL}/files/upload`, {
+        file: http.file(body, 'customers.csv', 'text/csv'),
+    });
+    check(res, {
+        'status is 200': (r) => r.status === 200,
+        'validation completed': (r) => r.json('data.status') === 'COMPLETED',
+    });
+}
@@ -0,0 +1,108 @@
+package com.example.coupon_admin.benchmark;
+
+import com.example.coupon_admin.validator.CustomerIdFormat;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 벤치마크용 customer_id 파일 생성기.
+ * 생성한 파일은 임시 디렉터리(coupon-admin-jmh)에 행 수별로 남겨 두고 다음 실행에서 재사용합니다.
+ */
+final class BenchmarkFixtures {
+
+    private static final Path DIRECTORY = Path.of(System.getProperty("java.io.tmpdir"), "coupon-admin-jmh");
+    // 중복 없이 값이 흩어지도록 행 번호에 곱하는 수 (Roaring 컨테이너가 한 곳에 몰리지 않게)
+    private static final long ID_STRIDE = 7_919L;
+    private static final long ID_OFFSET = 100_000L;
+
+    private BenchmarkFixtures() {
+    }
+
+    static long customerId(long row) {
+        return ID_OFFSET + row * ID_STRIDE;
+    }
+
+    // 헤더 + rows개의 고유한 customer_id 행으로 된 CSV
+    static Path csv(int rows) throws IOException {
+        Path file = DIRECTORY.resolve("customers-" + rows + ".csv");
+        if (Files.exists(file)) {
+            return file;
+        }
+        Path temp = createTemp(".csv");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.US_ASCII)) {
+            writeCsv(writer, rows);
+        }
+        return publish(temp, file);
+    }
+
+    // 크기가 약 targetBytes인 CSV 내용 (스토리지 스트림 벤치마크용)
+    static byte[] csvBytes(long targetBytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) targetBytes + 64);
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.US_ASCII))) {
+            writer.write(CustomerIdFormat.HEADER);
+            writer.write('\n');
+            long written = CustomerIdFormat.HEADER.length() + 1;
+            for (long row = 0; written < targetBytes; row++) {
+                String line = Long.toString(customerId(row));
+                writer.write(line);
+                writer.write('\n');
+                written += line.length() + 1;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    // 첫 번째 시트에 헤더 + rows개의 customer_id(문자열 셀)가 있는 xlsx (SXSSF로 생성하여 메모리 일정)
+    static Path xlsx(int rows) throws IOException {
+        Path file = DIRECTORY.resolve("customers-" + rows + ".xlsx");
+        if (Files.exists(file)) {
+            return file;
+        }
+        Path temp = createTemp(".xlsx");
+        SXSSFWorkbook workbook = new SXSSFWorkbook(1000);
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            Sheet sheet = workbook.createSheet("customers");
+            sheet.createRow(0).createCell(0).setCellValue(CustomerIdFormat.HEADER);
+            for (int row = 0; row < rows; row++) {
+                Row sheetRow = sheet.createRow(row + 1);
+                sheetRow.createCell(0).setCellValue(Long.toString(customerId(row)));
+            }
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+        return publish(temp, file);
+    }
+
+    private static void writeCsv(Writer writer, int rows) throws IOException {
+        writer.write(CustomerIdFormat.HEADER);
+        writer.write('\n');
+        for (int row = 0; row < rows; row++) {
+            writer.write(Long.toString(customerId(row)));
+            writer.write('\n');
+        }
+    }
+
+    private static Path createTemp(String suffix) throws IOException {
+        Files.createDirectories(DIRECTORY);
+        return Files.createTempFile(DIRECTORY, "fixture-", suffix);
+    }
+
+    // 다 쓴 뒤에 이름을 바꾸므로 중단된 생성이 다음 실행에서 재사용되지 않음
+    private static Path publish(Path temp, Path file) throws IOException {
+        return Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
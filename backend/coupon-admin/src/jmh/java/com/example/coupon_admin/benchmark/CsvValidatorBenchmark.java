@@ -0,0 +1,46 @@
+package com.example.coupon_admin.benchmark;
+
+import com.example.coupon_admin.validator.CsvFileValidator;
+import com.example.coupon_admin.validator.ValidationResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CsvFileValidator 처리 시간과 할당량 (파일 하나를 끝까지 검증하는 데 걸리는 시간)
+ * - streaming: InputStream 경로 (스토리지 다운로드, tee 분기)
+ * - mapped: 메모리 매핑 경로 (업로드 시 스풀된 임시 파일)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvValidatorBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    public int rows;
+
+    private final CsvFileValidator validator = new CsvFileValidator();
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = BenchmarkFixtures.csv(rows);
+        ValidationResult result = validator.validate(file, bytes -> { });
+        if (!result.isValid() || result.getTotalRows() != rows) {
+            throw new IllegalStateException("Invalid fixture: " + file + " " + result.getErrorMessage());
+        }
+    }
+
+    @Benchmark
+    public ValidationResult streaming() throws IOException {
+        return validator.validate(Files.newInputStream(file));
+    }
+
+    @Benchmark
+    public ValidationResult mapped() {
+        return validator.validate(file, bytes -> { });
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.coupon_admin.benchmark;
+
+import com.example.coupon_admin.validator.CustomerIdFormat;
+import com.example.coupon_admin.validator.DuplicateDetector;
+import com.example.coupon_admin.validator.ExcelFileValidator;
+import com.example.coupon_admin.validator.ValidationResult;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * xlsx 검증 처리 시간과 할당량: ExcelFileValidator(SAX) vs XSSFWorkbook(DOM) 기준선
+ * DOM 기준선은 SAX 검증기와 같은 일(첫 열 customer_id 파싱 + 중복 탐지)을 시트 전체를 메모리에 올린 뒤 수행합니다.
+ * 메모리 차이는 gc 프로파일러의 gc.alloc.rate.norm(연산당 할당 바이트)으로 비교합니다.
+ * xlsx 시트는 최대 1,048,576행이므로 10,000,000행 조건은 없습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"}) // DOM 기준선이 100만 행 시트를 모두 올릴 수 있도록
+public class ExcelValidatorBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    private final ExcelFileValidator validator = new ExcelFileValidator();
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = BenchmarkFixtures.xlsx(rows);
+        ValidationResult result;
+        try (InputStream in = Files.newInputStream(file)) {
+            result = validator.validate(in);
+        }
+        if (!result.isValid() || result.getTotalRows() != rows) {
+            throw new IllegalStateException("Invalid fixture: " + file + " " + result.getErrorMessage());
+        }
+    }
+
+    @Benchmark
+    public ValidationResult validate() throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return validator.validate(in);
+        }
+    }
+
+    // XSSFWorkbook(DOM)으로 시트 전체를 읽은 뒤 행을 순회하며 같은 검증 수행
+    @Benchmark
+    public long validateDom() throws IOException {
+        DataFormatter formatter = new DataFormatter();
+        DuplicateDetector duplicates = new DuplicateDetector();
+        long invalid = 0;
+        try (InputStream in = Files.newInputStream(file); Workbook workbook = new XSSFWorkbook(in)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            for (Row row : sheet) {
+                Cell cell = row.getCell(0);
+                String value = cell != null ? formatter.formatCellValue(cell) : null;
+                if (row.getRowNum() == 0) {
+                    if (value == null || !CustomerIdFormat.isHeader(value)) {
+                        throw new IllegalStateException("Invalid header: " + value);
+                    }
+                    continue;
+                }
+                long customerId = value != null ? CustomerIdFormat.parse(value) : CustomerIdFormat.INVALID;
+                if (customerId == CustomerIdFormat.INVALID) {
+                    invalid++;
+                } else {
+                    duplicates.add(row.getRowNum() + 1, customerId);
+                }
+            }
+        }
+        return invalid + duplicates.getDuplicateCount();
+    }
+}
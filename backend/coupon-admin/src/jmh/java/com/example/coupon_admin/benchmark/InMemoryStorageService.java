@@ -0,0 +1,112 @@
+package com.example.coupon_admin.benchmark;
+
+import com.example.coupon_admin.storage.StorageEncoding;
+import com.example.coupon_admin.storage.StorageService;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 객체를 힙에 보관하는 StorageService. (벤치마크에서 네트워크/디스크 없이 스트림 경로만 측정)
+ */
+class InMemoryStorageService implements StorageService {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, NavigableMap<Integer, byte[]>> multipartUploads = new ConcurrentHashMap<>();
+
+    @Override
+    public void uploadFile(String key, InputStream content, long size, String contentType) throws IOException {
+        try (InputStream in = content) {
+            objects.put(key, in.readAllBytes());
+        }
+    }
+
+    @Override
+    public void uploadFile(String key, InputStream content, long size, String contentType, StorageEncoding encoding) throws IOException {
+        uploadFile(key, encoding.encode(content), size, contentType);
+    }
+
+    @Override
+    public void uploadFileMultipart(String key, InputStream content, long size, String contentType) throws IOException {
+        uploadFile(key, content, size, contentType);
+    }
+
+    @Override
+    public String createMultipartUpload(String key, String contentType) {
+        String uploadId = UUID.randomUUID().toString();
+        multipartUploads.put(uploadId, new ConcurrentSkipListMap<>());
+        return uploadId;
+    }
+
+    @Override
+    public void uploadMultipartPart(String key, String uploadId, int partNumber, InputStream content, long size) throws IOException {
+        session(uploadId).put(partNumber, content.readAllBytes());
+    }
+
+    @Override
+    public void completeMultipartUpload(String key, String uploadId) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : session(uploadId).values()) {
+            out.write(part);
+        }
+        objects.put(key, out.toByteArray());
+        multipartUploads.remove(uploadId);
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) {
+        multipartUploads.remove(uploadId);
+    }
+
+    @Override
+    public InputStream downloadFile(String key) throws IOException {
+        return new ByteArrayInputStream(object(key));
+    }
+
+    @Override
+    public InputStream downloadFileRange(String key, long start, long end) throws IOException {
+        byte[] object = object(key);
+        int from = (int) Math.min(start, object.length);
+        int to = (int) Math.min(end, object.length);
+        return new ByteArrayInputStream(object, from, to - from);
+    }
+
+    @Override
+    public String generatePresignedUrl(String key, Duration expiration) {
+        return "memory://" + key;
+    }
+
+    @Override
+    public String generatePresignedUploadUrl(String key, String contentType, Duration expiration) {
+        return "memory://" + key;
+    }
+
+    @Override
+    public long getFileSize(String key) throws IOException {
+        return object(key).length;
+    }
+
+    private byte[] object(String key) throws IOException {
+        byte[] object = objects.get(key);
+        if (object == null) {
+            throw new IOException("Object not found: " + key);
+        }
+        return object;
+    }
+
+    private NavigableMap<Integer, byte[]> session(String uploadId) throws IOException {
+        NavigableMap<Integer, byte[]> parts = multipartUploads.get(uploadId);
+        if (parts == null) {
+            throw new IOException("Upload session not found: " + uploadId);
+        }
+        return parts;
+    }
+}
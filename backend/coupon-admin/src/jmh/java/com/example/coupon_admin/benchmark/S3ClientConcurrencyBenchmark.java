@@ -0,0 +1,195 @@
+package com.example.coupon_admin.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 스레드 수로 동시 전송 transfers건을 처리하는 시간 (S3Client + 스레드 풀 vs S3AsyncClient)
+ *
+ * 동기 클라이언트는 전송 한 건이 끝날 때까지 스레드 하나를 점유하므로 threads건씩 나누어 진행되고,
+ * 비동기 클라이언트는 threads개의 이벤트 루프 스레드로 transfers건을 한꺼번에 진행합니다.
+ * 네트워크 대신 latencyMillis만큼 지연 후 응답하는 로컬 HTTP 서버(가짜 S3)를 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class S3ClientConcurrencyBenchmark {
+
+    private static final String BUCKET = "benchmark";
+    private static final String KEY = "benchmark.csv";
+
+    // 동시에 시작하는 전송 수
+    @Param({"16", "64", "256"})
+    public int transfers;
+
+    // 동기: 전송 스레드 수 (= 커넥션 수), 비동기: 이벤트 루프 스레드 수
+    @Param({"8"})
+    public int threads;
+
+    // 가짜 S3의 응답 지연 (요청당 왕복 시간)
+    @Param({"20"})
+    public int latencyMillis;
+
+    // 객체 크기 (bytes)
+    @Param({"65536"})
+    public int size;
+
+    private HttpServer server;
+    private S3Client syncClient;
+    private S3AsyncClient asyncClient;
+    private ExecutorService syncExecutor;
+    private byte[] content;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        content = BenchmarkFixtures.csvBytes(size);
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", this::handle);
+        server.start();
+        URI endpoint = URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(AwsBasicCredentials.create("benchmark", "benchmark"));
+        // 가짜 S3는 체크섬을 계산하지 않으므로 검증 생략
+        S3Configuration s3Configuration = S3Configuration.builder()
+                .checksumValidationEnabled(false)
+                .pathStyleAccessEnabled(true)
+                .build();
+
+        syncClient = S3Client.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentials)
+                .endpointOverride(endpoint)
+                .serviceConfiguration(s3Configuration)
+                .httpClientBuilder(ApacheHttpClient.builder().maxConnections(threads))
+                .build();
+        syncExecutor = Executors.newFixedThreadPool(threads);
+
+        asyncClient = S3AsyncClient.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentials)
+                .endpointOverride(endpoint)
+                .serviceConfiguration(s3Configuration)
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(transfers)
+                        .eventLoopGroupBuilder(SdkEventLoopGroup.builder().numberOfThreads(threads)))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        syncExecutor.shutdownNow();
+        syncClient.close();
+        asyncClient.close();
+        server.stop(0);
+    }
+
+    @Benchmark
+    public long syncGet() throws InterruptedException, ExecutionException {
+        List<Future<Long>> futures = new ArrayList<>(transfers);
+        for (int i = 0; i < transfers; i++) {
+            futures.add(syncExecutor.submit(() -> (long) syncClient.getObjectAsBytes(getRequest()).asByteArray().length));
+        }
+        long total = 0;
+        for (Future<Long> future : futures) {
+            total += future.get();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int syncPut() throws InterruptedException, ExecutionException {
+        List<Future<?>> futures = new ArrayList<>(transfers);
+        for (int i = 0; i < transfers; i++) {
+            futures.add(syncExecutor.submit(() -> syncClient.putObject(putRequest(), RequestBody.fromBytes(content))));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return futures.size();
+    }
+
+    // 모든 요청을 호출 스레드 하나에서 시작하고 완료만 기다림
+    @Benchmark
+    public long asyncGet() {
+        List<CompletableFuture<Long>> futures = new ArrayList<>(transfers);
+        for (int i = 0; i < transfers; i++) {
+            futures.add(asyncClient.getObject(getRequest(), AsyncResponseTransformer.toBytes())
+                    .thenApply(response -> (long) response.asByteArray().length));
+        }
+        long total = 0;
+        for (CompletableFuture<Long> future : futures) {
+            total += future.join();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int asyncPut() {
+        List<CompletableFuture<?>> futures = new ArrayList<>(transfers);
+        for (int i = 0; i < transfers; i++) {
+            futures.add(asyncClient.putObject(putRequest(), AsyncRequestBody.fromBytes(content)));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        return futures.size();
+    }
+
+    private GetObjectRequest getRequest() {
+        return GetObjectRequest.builder().bucket(BUCKET).key(KEY).build();
+    }
+
+    private PutObjectRequest putRequest() {
+        return PutObjectRequest.builder().bucket(BUCKET).key(KEY).build();
+    }
+
+    // GET은 content를 반환, PUT은 본문을 끝까지 읽고 빈 응답 (모두 latencyMillis 후)
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream body = exchange.getRequestBody()) {
+            body.transferTo(OutputStream.nullOutputStream());
+            Thread.sleep(latencyMillis);
+            if ("GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Content-Type", "text/csv");
+                exchange.sendResponseHeaders(200, content.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(content);
+                }
+            } else {
+                exchange.getResponseHeaders().set("ETag", "\"benchmark\"");
+                exchange.sendResponseHeaders(200, -1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
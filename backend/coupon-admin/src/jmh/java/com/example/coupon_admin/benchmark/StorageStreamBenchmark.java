@@ -0,0 +1,58 @@
+package com.example.coupon_admin.benchmark;
+
+import com.example.coupon_admin.storage.StorageEncoding;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StorageService 업로드/다운로드 스트림 처리 시간과 할당량
+ * 네트워크를 제외하고 스트림 경로(압축/해제 포함)만 측정하도록 InMemoryStorageService를 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageStreamBenchmark {
+
+    private static final String KEY = "benchmark.csv";
+    private static final String CONTENT_TYPE = "text/csv";
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    // 원본 CSV 크기 (bytes)
+    @Param({"1048576", "67108864"})
+    public long size;
+
+    @Param({"IDENTITY", "GZIP"})
+    public StorageEncoding encoding;
+
+    private final InMemoryStorageService storage = new InMemoryStorageService();
+    private final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+    private byte[] content;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        content = BenchmarkFixtures.csvBytes(size);
+        storage.uploadFile(KEY, new ByteArrayInputStream(content), content.length, CONTENT_TYPE, encoding);
+    }
+
+    @Benchmark
+    public void upload() throws IOException {
+        storage.uploadFile("upload-" + KEY, new ByteArrayInputStream(content), content.length, CONTENT_TYPE, encoding);
+    }
+
+    // 검증/적재처럼 원본으로 해제하며 끝까지 읽음
+    @Benchmark
+    public long download() throws IOException {
+        long total = 0;
+        try (InputStream in = storage.downloadFile(KEY, encoding)) {
+            int read;
+            while ((read = in.read(readBuffer)) != -1) {
+                total += read;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.coupon_admin.controller;
+
+import com.example.coupon_admin.domain.CouponIssuance;
+import com.example.coupon_admin.dto.IssuanceRequest;
+import com.example.coupon_admin.dto.IssuanceResponse;
+import com.example.coupon_admin.global.ApiResponse;
+import com.example.coupon_admin.service.CouponIssuanceService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/coupons/issuances")
+public class CouponIssuanceController {
+
+    private final CouponIssuanceService couponIssuanceService;
+
+    // 쿠폰 일괄 발급 시작 API: 검증을 통과한 업로드 파일의 고객에게 비동기로 발급
+    @PostMapping
+    public ApiResponse<IssuanceResponse> startIssuance(@Valid @RequestBody IssuanceRequest request) {
+        CouponIssuance issuance = couponIssuanceService.startIssuance(
+                request.getFileId(),
+                request.getCouponCode(),
+                request.getCouponName(),
+                request.getExpiresAt()
+        );
+
+        return ApiResponse.onSuccess(toResponse(issuance));
+    }
+
+    // 발급 진행 상태 조회 API (파티션별 체크포인트와 발급 수 포함)
+    @GetMapping("/{issuanceId}")
+    public ApiResponse<IssuanceResponse> getIssuance(@PathVariable("issuanceId") Long issuanceId) {
+        if (issuanceId == null || issuanceId <= 0) {
+            throw new IllegalArgumentException("유효하지 않은 issuanceId 입니다.");
+        }
+
+        return ApiResponse.onSuccess(toResponse(couponIssuanceService.getIssuance(issuanceId)));
+    }
+
+    // 실패한 발급 재개 API: 완료되지 않은 파티션을 체크포인트부터 이어서 발급
+    @PostMapping("/{issuanceId}/resume")
+    public ApiResponse<IssuanceResponse> resumeIssuance(@PathVariable("issuanceId") Long issuanceId) {
+        if (issuanceId == null || issuanceId <= 0) {
+            throw new IllegalArgumentException("유효하지 않은 issuanceId 입니다.");
+        }
+
+        return ApiResponse.onSuccess(toResponse(couponIssuanceService.resume(issuanceId)));
+    }
+
+    private IssuanceResponse toResponse(CouponIssuance issuance) {
+        return IssuanceResponse.of(issuance, couponIssuanceService.getPartitions(issuance.getId()));
+    }
+}
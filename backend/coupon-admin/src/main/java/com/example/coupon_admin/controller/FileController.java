@@ -1,16 +1,40 @@
 package com.example.coupon_admin.controller;
 
+import com.example.coupon_admin.domain.FileStatus;
+import com.example.coupon_admin.domain.UploadFile;
+import com.example.coupon_admin.dto.CacheStatsResponse;
+import com.example.coupon_admin.dto.ChunkedUploadInitRequest;
+import com.example.coupon_admin.dto.ChunkedUploadResponse;
 import com.example.coupon_admin.dto.DownloadUrlResponse;
+import com.example.coupon_admin.dto.FileListResponse;
+import com.example.coupon_admin.dto.FileStatusResponse;
+import com.example.coupon_admin.dto.PresignedUploadRequest;
+import com.example.coupon_admin.dto.PresignedUploadResponse;
 import com.example.coupon_admin.dto.UploadResponse;
+import com.example.coupon_admin.dto.ValidationQueueResponse;
 import com.example.coupon_admin.global.ApiResponse;
+import com.example.coupon_admin.global.async.ValidationExecutor;
+import com.example.coupon_admin.service.ChunkedUploadService;
 import com.example.coupon_admin.service.FileUploadService;
 import com.example.coupon_admin.service.FileDownloadService;
+import com.example.coupon_admin.service.FileEventService;
+import com.example.coupon_admin.service.FileListService;
+import com.example.coupon_admin.service.FileStatusService;
+import com.example.coupon_admin.service.FileStatusWriter;
+import com.example.coupon_admin.service.FileValidationService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,7 +42,14 @@ import java.io.IOException;
 public class FileController {
 
     private final FileUploadService fileUploadService;
+    private final ChunkedUploadService chunkedUploadService;
     private final FileDownloadService fileDownloadService;
+    private final FileValidationService fileValidationService;
+    private final FileStatusService fileStatusService;
+    private final FileStatusWriter fileStatusWriter;
+    private final FileListService fileListService;
+    private final FileEventService fileEventService;
+    private final ValidationExecutor validationExecutor;
 
     // 파일 업로드 API
     @PostMapping("/upload")
@@ -32,19 +63,139 @@ public class FileController {
             throw new IllegalArgumentException("파일명이 비어 있습니다.");
         }
 
-        // 2) 서비스 호출: S3 업로드 + 메타데이터 저장 + 비동기 검증 트리거
-        Long fileId = fileUploadService.upload(file);
+        // 2) 서비스 호출: 메타데이터 저장 + 스풀 파일에서 스토리지 업로드와 검증을 동시 수행
+        //    (스풀 파일은 내용 해시, 검증, 업로드에서 각각 한 번씩 읽음)
+        UploadFile uploadFile = fileUploadService.upload(file);
 
-        // 3) 응답 DTO 구성: 업로드 직후 상태는 UPLOADING
-        UploadResponse response = UploadResponse.builder()
-                .fileId(fileId)
-                .status("UPLOADING")
-                .message("파일 업로드가 정상적으로 접수되었습니다. 잠시 후 처리 결과를 확인하세요.")
+        // 3) 응답 DTO 구성: 업로드와 검증이 모두 끝난 최종 상태(COMPLETED/FAILED)
+        return ApiResponse.onSuccess(UploadResponse.fromEntity(uploadFile));
+    }
+
+    // 직접 업로드용 Pre-signed URL 발급 API (1단계)
+    @PostMapping("/upload-url")
+    public ApiResponse<PresignedUploadResponse> createUploadUrl(@Valid @RequestBody PresignedUploadRequest request) throws IOException {
+        // 서비스에서 UPLOADING 상태의 메타데이터 저장 + 프리사인드 PUT URL 생성
+        FileUploadService.PresignedUploadInfo uploadInfo =
+                fileUploadService.prepareDirectUpload(request.getFileName(), request.getContentType());
+
+        PresignedUploadResponse response = PresignedUploadResponse.builder()
+                .fileId(uploadInfo.getFileId())
+                .uploadUrl(uploadInfo.getUploadUrl())
+                .contentType(uploadInfo.getContentType())
+                .expiresAt(uploadInfo.getExpiresAt())
                 .build();
 
         return ApiResponse.onSuccess(response);
     }
 
+    // 직접 업로드 완료 통보 API (2단계): 스토리지의 파일을 비동기로 검증
+    @PostMapping("/{fileId}/complete")
+    public ApiResponse<UploadResponse> completeUpload(@PathVariable("fileId") Long fileId) throws IOException {
+        if (fileId == null || fileId <= 0) {
+            throw new IllegalArgumentException("유효하지 않은 fileId 입니다.");
+        }
+
+        UploadFile uploadFile = fileUploadService.completeDirectUpload(fileId);
+
+        return ApiResponse.onSuccess(UploadResponse.fromEntity(uploadFile));
+    }
+
+    // 조각 업로드 세션 시작 API (재개 가능한 업로드 1단계)
+    @PostMapping("/chunked-uploads")
+    public ApiResponse<ChunkedUploadResponse> initiateChunkedUpload(@Valid @RequestBody ChunkedUploadInitRequest request) throws IOException {
+        UploadFile uploadFile = chunkedUploadService.initiate(request.getFileName(), request.getFileSize(), request.getContentType());
+
+        return ApiResponse.onSuccess(ChunkedUploadResponse.fromEntity(uploadFile));
+    }
+
+    // 조각 업로드 API (2단계): 요청 본문이 조각 바이트, 1번부터 순서대로
+    @PutMapping(value = "/chunked-uploads/{fileId}/chunks/{chunkNumber}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ApiResponse<ChunkedUploadResponse> uploadChunk(@PathVariable("fileId") Long fileId,
+                                                          @PathVariable("chunkNumber") int chunkNumber,
+                                                          HttpServletRequest request) throws IOException {
+        if (fileId == null || fileId <= 0) {
+            throw new IllegalArgumentException("유효하지 않은 fileId 입니다.");
+        }
+        if (request.getContentLengthLong() < 0) {
+            throw new IllegalArgumentException("Content-Length 헤더가 필요합니다.");
+        }
+
+        // 본문을 버퍼링하지 않고 스토리지로 바로 스트리밍
+        UploadFile uploadFile = chunkedUploadService.uploadChunk(fileId, chunkNumber, request.getInputStream(), request.getContentLengthLong());
+
+        return ApiResponse.onSuccess(ChunkedUploadResponse.fromEntity(uploadFile));
+    }
+
+    // 조각 업로드 진행 상태 조회 API (재개 시 nextChunk부터 전송)
+    @GetMapping("/chunked-uploads/{fileId}")
+    public ApiResponse<ChunkedUploadResponse> getChunkedUpload(@PathVariable("fileId") Long fileId) {
+        if (fileId == null || fileId <= 0) {
+            throw new IllegalArgumentException("유효하지 않은 fileId 입니다.");
+        }
+
+        return ApiResponse.onSuccess(ChunkedUploadResponse.fromEntity(chunkedUploadService.getSession(fileId)));
+    }
+
+    // 조각 업로드 완료 API (3단계): 조각을 합친 뒤 비동기 검증
+    @PostMapping("/chunked-uploads/{fileId}/complete")
+    public ApiResponse<UploadResponse> completeChunkedUpload(@PathVariable("fileId") Long fileId) throws IOException {
+        if (fileId == null || fileId <= 0) {
+            throw new IllegalArgumentException("유효하지 않은 fileId 입니다.");
+        }
+
+        UploadFile uploadFile = chunkedUploadService.complete(fileId);
+
+        return ApiResponse.onSuccess(UploadResponse.fromEntity(uploadFile));
+    }
+
+    // 파일 처리 상태 조회 API (검증/적재 결과 폴링용)
+    @GetMapping("/{fileId}/status")
+    public ApiResponse<FileStatusResponse> getStatus(@PathVariable("fileId") Long fileId) {
+        if (fileId == null || fileId <= 0) {
+            throw new IllegalArgumentException("유효하지 않은 fileId 입니다.");
+        }
+
+        return ApiResponse.onSuccess(fileStatusService.getStatus(fileId));
+    }
+
+    // 파일 처리 상태/진행률 구독 API (SSE: status, progress 이벤트)
+    @GetMapping(value = "/{fileId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeEvents(@PathVariable("fileId") Long fileId) {
+        if (fileId == null || fileId <= 0) {
+            throw new IllegalArgumentException("유효하지 않은 fileId 입니다.");
+        }
+
+        return fileEventService.subscribe(fileId);
+    }
+
+    // 여러 파일의 처리 상태 일괄 조회 API (예: /files/status?ids=1,2,3)
+    @GetMapping("/status")
+    public ApiResponse<List<FileStatusResponse>> getStatuses(@RequestParam("ids") List<Long> fileIds) {
+        if (fileIds.isEmpty()) {
+            throw new IllegalArgumentException("조회할 fileId가 없습니다.");
+        }
+
+        return ApiResponse.onSuccess(fileStatusService.getStatuses(fileIds));
+    }
+
+    // 파일 목록 조회 API (최신순 keyset 페이지, 예: /files?status=FAILED&from=2025-01-01T00:00:00&size=50&cursor=...)
+    @GetMapping
+    public ApiResponse<FileListResponse> listFiles(
+            @RequestParam(value = "status", required = false) FileStatus status,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+
+        return ApiResponse.onSuccess(fileListService.listFiles(status, from, to, cursor, size));
+    }
+
+    // 상태 캐시 통계 조회 API (hit/miss)
+    @GetMapping("/status-cache")
+    public ApiResponse<CacheStatsResponse> getStatusCacheStats() {
+        return ApiResponse.onSuccess(fileStatusService.getCacheStats());
+    }
+
     // 파일 다운로드 URL 생성 API
     @GetMapping("/download/{fileId}")
     public ApiResponse<DownloadUrlResponse> getDownloadUrl(@PathVariable("fileId") Long fileId) {
@@ -63,4 +214,29 @@ public class FileController {
 
         return ApiResponse.onSuccess(response);
     }
+
+    // 다운로드 URL 캐시 통계 조회 API (hit/miss)
+    @GetMapping("/download-cache")
+    public ApiResponse<CacheStatsResponse> getDownloadCacheStats() {
+        return ApiResponse.onSuccess(fileDownloadService.getUrlCacheStats());
+    }
+
+    // 검증 실행기 상태 조회 API (동시 실행/대기/완료/거절 수, 상태 기록 배치 반영 수)
+    @GetMapping("/validation-queue")
+    public ApiResponse<ValidationQueueResponse> getValidationQueue() {
+        ValidationQueueResponse response = ValidationQueueResponse.builder()
+                .concurrency(validationExecutor.getConcurrency())
+                .queueCapacity(validationExecutor.getQueueCapacity())
+                .activeCount(validationExecutor.getActiveCount())
+                .queuedCount(validationExecutor.getQueuedCount())
+                .pendingCount(fileValidationService.getPendingCount())
+                .completedCount(validationExecutor.getCompletedCount())
+                .rejectedCount(validationExecutor.getRejectedCount())
+                .statusWriteCount(fileStatusWriter.getWriteCount())
+                .statusFlushCount(fileStatusWriter.getFlushCount())
+                .statusPendingCount(fileStatusWriter.getPendingCount())
+                .build();
+
+        return ApiResponse.onSuccess(response);
+    }
 }
@@ -0,0 +1,62 @@
+package com.example.coupon_admin.controller;
+
+import com.example.coupon_admin.storage.LocalFileStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * 파일시스템 스토리지의 서명 URL을 처리하는 컨트롤러 (S3 Pre-signed URL 대체)
+ * 서명과 만료 시각을 확인한 뒤 객체를 그대로 내려주거나(GET) 클라이언트의 직접 업로드를 받습니다(PUT).
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/storage/local")
+@ConditionalOnProperty(name = "cloud.storage.provider", havingValue = "filesystem")
+public class LocalStorageController {
+
+    private final LocalFileStorageService storageService;
+
+    // 서명된 다운로드 URL (Content-Encoding 메타데이터가 있으면 헤더로 전달하여 클라이언트가 해제)
+    @GetMapping
+    public ResponseEntity<Resource> download(@RequestParam("key") String key,
+                                             @RequestParam("expires") long expires,
+                                             @RequestParam("signature") String signature) throws IOException {
+        if (!storageService.verifySignature("GET", key, null, expires, signature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        LocalFileStorageService.StoredObject object = storageService.getObject(key);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(object.getContentType()))
+                .contentLength(object.getSize());
+        if (object.getContentEncoding() != null) {
+            response.header(HttpHeaders.CONTENT_ENCODING, object.getContentEncoding());
+        }
+        return response.body(new FileSystemResource(object.getPath()));
+    }
+
+    // 서명된 업로드 URL (발급 시 지정한 Content-Type과 같은 헤더로 보내야 함)
+    @PutMapping
+    public ResponseEntity<Void> upload(@RequestParam("key") String key,
+                                       @RequestParam("expires") long expires,
+                                       @RequestParam("signature") String signature,
+                                       @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+                                       HttpServletRequest request) throws IOException {
+        if (!storageService.verifySignature("PUT", key, contentType, expires, signature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        storageService.uploadFile(key, request.getInputStream(), request.getContentLengthLong(), contentType);
+        return ResponseEntity.ok().build();
+    }
+}
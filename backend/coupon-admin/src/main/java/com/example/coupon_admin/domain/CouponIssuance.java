@@ -0,0 +1,66 @@
+package com.example.coupon_admin.domain;
+
+import lombok.*;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검증을 통과한 업로드 파일의 고객에게 쿠폰을 일괄 발급하는 작업.
+ * 실제 발급은 customer_id 해시로 나눈 파티션(IssuancePartition) 단위로 병렬 진행됩니다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_coupon_issuance_upload_file_id", columnList = "uploadFileId"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponIssuance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long uploadFileId;       // 발급 대상 목록 (UploadFile.id)
+
+    @Column(nullable = false, length = 64)
+    private String couponCode;
+    private String couponName;
+    private LocalDateTime expiresAt; // 쿠폰 만료 시각
+
+    @Enumerated(EnumType.STRING)
+    private IssuanceStatus status;
+
+    private Integer partitionCount;
+    private Long issuedCount;        // 완료 시 전체 발급 수 (같은 customer_id는 한 번만 발급)
+    private String failureReason;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+
+    @Builder
+    public CouponIssuance(Long uploadFileId, String couponCode, String couponName, LocalDateTime expiresAt, Integer partitionCount) {
+        this.uploadFileId = uploadFileId;
+        this.couponCode = couponCode;
+        this.couponName = couponName;
+        this.expiresAt = expiresAt;
+        this.partitionCount = partitionCount;
+        this.status = IssuanceStatus.RUNNING;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // 실패한 작업을 체크포인트부터 다시 시작
+    public void restart() {
+        this.status = IssuanceStatus.RUNNING;
+        this.failureReason = null;
+    }
+
+    public void complete(long issuedCount) {
+        this.status = IssuanceStatus.COMPLETED;
+        this.issuedCount = issuedCount;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public void fail(String reason) {
+        this.status = IssuanceStatus.FAILED;
+        this.failureReason = reason;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.coupon_admin.domain;
+
+import lombok.*;
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+
+/**
+ * 검증을 통과한 업로드 파일의 customer_id 한 행.
+ * 행은 JPA가 아니라 PostgreSQL COPY로 대량 적재하며, 이 엔티티는 테이블 정의와 조회 용도입니다.
+ * (upload_file_id, row_number)가 키이므로 같은 행이 두 번 적재될 수 없습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(CustomerTarget.Key.class)
+@Table(name = "customer_target", indexes = @Index(name = "idx_customer_target_customer_id", columnList = "customerId"))
+public class CustomerTarget {
+
+    @Id
+    private Long uploadFileId; // UploadFile.id
+
+    @Id
+    private Long rowNumber;    // 원본 파일의 행 번호 (헤더 = 1)
+
+    @Column(nullable = false)
+    private Long customerId;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long uploadFileId;
+        private Long rowNumber;
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.coupon_admin.domain;
 
 public enum FileStatus {
-    UPLOADING, COMPLETED, FAILED
+    UPLOADING, COMPLETED, FAILED,
+    VALIDATING, // 검증 진행 중 (멀티파트 업로드는 업로드와 동시에 진행)
+    INGESTING,  // 검증 통과 후 customer_id를 대상 테이블에 적재하는 중
+    INGESTED    // 적재 완료
 }
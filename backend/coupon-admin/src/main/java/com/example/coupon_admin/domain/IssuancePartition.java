@@ -0,0 +1,64 @@
+package com.example.coupon_admin.domain;
+
+import lombok.*;
+import jakarta.persistence.*;
+
+/**
+ * 쿠폰 발급 작업의 파티션 하나. customer_id 해시가 partitionNumber인 고객을 담당합니다.
+ * 같은 customer_id는 항상 같은 파티션에 속하므로, 파일 안의 중복 행은 파티션 안에서만 걸러내면 됩니다.
+ *
+ * checkpointRow는 발급 행과 같은 트랜잭션에서 JDBC로 갱신되며, 재개 시 이 행 번호까지는 다시 발급하지 않습니다.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_issuance_partition", columnNames = {"issuanceId", "partitionNumber"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IssuancePartition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long issuanceId;         // CouponIssuance.id
+    private Integer partitionNumber; // 0부터
+
+    @Enumerated(EnumType.STRING)
+    private IssuanceStatus status;
+
+    private Long checkpointRow;      // 발급이 커밋된 마지막 파일 행 번호 (헤더 = 1)
+    private Long issuedCount;        // 커밋된 발급 수
+    private String failureReason;
+
+    public IssuancePartition(Long issuanceId, int partitionNumber) {
+        this.issuanceId = issuanceId;
+        this.partitionNumber = partitionNumber;
+        this.status = IssuanceStatus.PENDING;
+        this.checkpointRow = 0L;
+        this.issuedCount = 0L;
+    }
+
+    // 작업자에 제출됨 (실행 전까지는 작업 완료 판단에서 진행 중으로 취급)
+    public void queue() {
+        this.status = IssuanceStatus.PENDING;
+    }
+
+    public void start() {
+        this.status = IssuanceStatus.RUNNING;
+        this.failureReason = null;
+    }
+
+    // 배치 커밋과 같은 트랜잭션에서 DB에 기록된 체크포인트를 엔티티에도 반영
+    public void recordProgress(long checkpointRow, long issuedCount) {
+        this.checkpointRow = checkpointRow;
+        this.issuedCount = issuedCount;
+    }
+
+    public void complete() {
+        this.status = IssuanceStatus.COMPLETED;
+    }
+
+    public void fail(String reason) {
+        this.status = IssuanceStatus.FAILED;
+        this.failureReason = reason;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.coupon_admin.domain;
+
+// 쿠폰 일괄 발급 작업과 파티션의 처리 상태
+public enum IssuanceStatus {
+    PENDING,   // 파티션이 아직 실행되지 않음
+    RUNNING,
+    COMPLETED,
+    FAILED     // 체크포인트는 유지되며, 재개 시 이어서 발급
+}
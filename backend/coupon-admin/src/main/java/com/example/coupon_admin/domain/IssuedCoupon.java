@@ -0,0 +1,37 @@
+package com.example.coupon_admin.domain;
+
+import lombok.*;
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+
+/**
+ * 고객 한 명에게 발급된 쿠폰 한 장.
+ * 행은 JPA가 아니라 PostgreSQL COPY로 대량 적재하며, 이 엔티티는 테이블 정의와 조회 용도입니다.
+ * (issuance_id, customer_id)가 키이므로 같은 작업에서 같은 고객에게 두 번 발급될 수 없습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(IssuedCoupon.Key.class)
+@Table(name = "issued_coupon", indexes = @Index(name = "idx_issued_coupon_customer_id", columnList = "customerId"))
+public class IssuedCoupon {
+
+    @Id
+    private Long issuanceId;   // CouponIssuance.id
+
+    @Id
+    private Long customerId;
+
+    @Column(nullable = false)
+    private Long rowNumber;    // 발급 근거가 된 원본 파일의 행 번호 (중복 행 중 첫 행)
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long issuanceId;
+        private Long customerId;
+    }
+}
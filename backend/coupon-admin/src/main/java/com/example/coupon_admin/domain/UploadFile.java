@@ -1,9 +1,28 @@
 package com.example.coupon_admin.domain;
 
+import com.example.coupon_admin.storage.StorageEncoding;
 import lombok.*;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.OptimisticLock;
 
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 파일 메타데이터.
+ *
+ * version은 조각 업로드 세션 필드(multipartUploadId, uploadedChunks 등)가 바뀔 때만 올라갑니다. (낙관적 잠금)
+ * 같은 세션의 조각/완료/정리 요청이 동시에 저장하면 늦은 쪽이 ObjectOptimisticLockingFailureException으로 실패합니다.
+ * 검증/적재 상태 필드는 작업자가 같은 엔티티를 여러 번 저장하고 JDBC로도 갱신하므로 잠금에서 제외합니다.
+ */
 @Entity
+@EntityListeners(UploadFileEventListener.class)
+@Table(indexes = {
+        @Index(name = "idx_upload_file_content_hash", columnList = "contentHash"),
+        // 목록 조회 keyset 페이지네이션 (createdAt, id 내림차순 탐색)
+        @Index(name = "idx_upload_file_created_at", columnList = "createdAt, id"),
+        @Index(name = "idx_upload_file_status_created_at", columnList = "status, createdAt, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UploadFile {
@@ -14,25 +33,158 @@ public class UploadFile {
 
     private String originalFileName; // 사용자가 업로드한 원본 파일명
     private String storagePath;      // 스토리지에 저장된 파일 경로 (key)
-    private Long fileSize;
+    @OptimisticLock(excluded = true)
+    private Long fileSize;           // 원본 파일 크기 (압축 저장 여부와 무관)
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private StorageEncoding storageEncoding; // 스토리지 객체 저장 인코딩 (null이면 압축 도입 전 객체로 IDENTITY)
 
+    @OptimisticLock(excluded = true)
+    @Column(length = 64)
+    private String contentHash;      // 파일 내용 SHA-256 (16진수), 동일 내용 재업로드 탐지용
+
+    @OptimisticLock(excluded = true)
     @Enumerated(EnumType.STRING)
-    private FileStatus status;       // 처리 상태 [UPLOADING, COMPLETED, FAILED]
+    private FileStatus status;       // 처리 상태 [UPLOADING, VALIDATING, COMPLETED, FAILED, INGESTING, INGESTED]
 
+    @OptimisticLock(excluded = true)
     private String failureReason;    // 실패 시 사유
 
+    @OptimisticLock(excluded = true)
+    private Long rowCount;           // 검증한 데이터 행 수 (헤더 제외)
+    @OptimisticLock(excluded = true)
+    private Long duplicateCount;     // customer_id가 앞선 행과 중복된 행 수
+    @OptimisticLock(excluded = true)
+    private Boolean duplicatesTruncated; // true이면 중복 탐지가 메모리 한도에 도달하여 duplicateCount는 하한값
+
+    @OptimisticLock(excluded = true)
+    @Column(length = 1000)
+    private String duplicateSamples; // 중복 행 샘플 (예: "row 12: 1001, row 40: 1002")
+
+    @OptimisticLock(excluded = true)
+    private Long ingestedRows;       // 대상 테이블에 커밋된 행 수 (적재 재개 체크포인트)
+
+    // 조각(chunk) 업로드 세션 (재개 가능한 업로드)
+    private String multipartUploadId;    // 스토리지 멀티파트 업로드 ID (세션 종료 시 null)
+    private Long chunkSize;              // 마지막 조각을 제외한 조각 크기
+    private Integer totalChunks;
+    private Integer uploadedChunks;      // 1번부터 연속으로 저장이 확인된 조각 수 (재개 지점)
+    private LocalDateTime lastChunkAt;   // 마지막 조각 수신 시각 (방치된 세션 정리 기준)
+
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;                // 조각 업로드 세션 변경 횟수 (기존 행은 0)
+
+    @Column(updatable = false)
+    private LocalDateTime createdAt;     // 메타데이터 생성 시각 (목록 정렬/기간 조회 기준)
+    @OptimisticLock(excluded = true)
+    private LocalDateTime updatedAt;     // 마지막 저장 시각 (JDBC로 직접 갱신하는 곳도 함께 기록)
+
     @Builder
-    public UploadFile(String originalFileName, String storagePath, Long fileSize) {
+    public UploadFile(String originalFileName, String storagePath, Long fileSize, String contentHash, StorageEncoding storageEncoding) {
         this.originalFileName = originalFileName;
         this.storagePath = storagePath;
         this.fileSize = fileSize;
+        this.contentHash = contentHash;
+        this.storageEncoding = storageEncoding != null ? storageEncoding : StorageEncoding.IDENTITY;
         this.status = FileStatus.UPLOADING; // 최초 상태는 '업로드 중'
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public StorageEncoding getStorageEncoding() {
+        return storageEncoding != null ? storageEncoding : StorageEncoding.IDENTITY;
+    }
+
+    // 클라이언트가 스토리지에 직접 업로드를 마친 뒤 실제 크기를 기록
+    public void confirmUpload(Long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    // 조각 업로드 세션 시작 (크기는 클라이언트가 선언한 전체 크기)
+    public void startChunkedUpload(String multipartUploadId, long fileSize, long chunkSize, int totalChunks) {
+        this.multipartUploadId = multipartUploadId;
+        this.fileSize = fileSize;
+        this.chunkSize = chunkSize;
+        this.totalChunks = totalChunks;
+        this.uploadedChunks = 0;
+        this.lastChunkAt = LocalDateTime.now();
+    }
+
+    // 다음 순서의 조각 저장 확인
+    public void acknowledgeChunk(int chunkNumber) {
+        this.uploadedChunks = chunkNumber;
+        this.lastChunkAt = LocalDateTime.now();
+    }
+
+    // 조각을 하나의 객체로 합친 뒤(또는 세션 취소 후) 세션 정보 정리
+    public void finishChunkedUpload() {
+        this.multipartUploadId = null;
+    }
+
+    public boolean isChunkedUploadInProgress() {
+        return multipartUploadId != null;
+    }
+
+    // 스토리지에서 읽으며 계산한 내용 해시 기록 (직접 업로드 등 업로드 시점에 해시를 알 수 없는 경우)
+    public void recordContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    // 내용이 같은 기존 파일의 검증 결과를 그대로 사용 (스토리지 객체는 생성 시 같은 경로로 지정)
+    public void reuseValidationOf(UploadFile source) {
+        this.rowCount = source.rowCount;
+        this.duplicateCount = source.duplicateCount;
+        this.duplicatesTruncated = source.duplicatesTruncated;
+        this.duplicateSamples = source.duplicateSamples;
+        this.status = FileStatus.COMPLETED;
+    }
+
+    public void startValidation() {
+        this.status = FileStatus.VALIDATING;
+    }
+
+    public void recordValidationStats(Long rowCount, Long duplicateCount, boolean duplicatesTruncated, String duplicateSamples) {
+        this.rowCount = rowCount;
+        this.duplicateCount = duplicateCount;
+        this.duplicatesTruncated = duplicatesTruncated;
+        this.duplicateSamples = duplicateSamples;
     }
 
     public void complete() {
         this.status = FileStatus.COMPLETED;
     }
 
+    // 적재 시작 또는 재개 (이전 실패 사유는 지움)
+    public void startIngestion() {
+        this.status = FileStatus.INGESTING;
+        this.failureReason = null;
+        if (this.ingestedRows == null) {
+            this.ingestedRows = 0L;
+        }
+    }
+
+    // 배치 커밋과 같은 트랜잭션에서 DB에 기록된 체크포인트를 엔티티에도 반영
+    public void recordIngestionProgress(long ingestedRows) {
+        this.ingestedRows = ingestedRows;
+    }
+
+    public void completeIngestion() {
+        this.status = FileStatus.INGESTED;
+    }
+
+    // 적재 실패는 INGESTING 상태와 체크포인트를 유지하여 재시작 시 이어서 적재
+    public void recordIngestionFailure(String reason) {
+        this.failureReason = reason;
+    }
+
     public void fail(String reason) {
         this.status = FileStatus.FAILED;
         this.failureReason = reason;
@@ -0,0 +1,22 @@
+package com.example.coupon_admin.domain;
+
+import com.example.coupon_admin.dto.FileStatusResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * UploadFile이 저장(INSERT/UPDATE)된 직후 발행되는 애플리케이션 이벤트.
+ * 파일 상태나 경로를 캐시하는 컴포넌트가 이 이벤트로 캐시를 무효화하거나 갱신합니다.
+ * 상태는 저장된 시점의 값을 복사해 두므로, 발행 이후 엔티티가 바뀌어도 리스너는 저장된 값을 봅니다.
+ */
+@Getter
+@AllArgsConstructor
+public class UploadFileChangedEvent {
+
+    private final Long fileId;
+    private final FileStatusResponse status;
+
+    public UploadFileChangedEvent(UploadFile uploadFile) {
+        this(uploadFile.getId(), FileStatusResponse.fromEntity(uploadFile));
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.coupon_admin.domain;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * UploadFile JPA 엔티티 리스너.
+ * 어떤 서비스에서 저장하든 변경 사항이 DB에 반영되는 시점에 {@link UploadFileChangedEvent}를 발행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UploadFileEventListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    void onChanged(UploadFile uploadFile) {
+        eventPublisher.publishEvent(new UploadFileChangedEvent(uploadFile));
+    }
+}
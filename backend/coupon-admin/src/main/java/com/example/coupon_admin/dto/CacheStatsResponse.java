@@ -0,0 +1,32 @@
+package com.example.coupon_admin.dto;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+
+    private long size;          // 현재 항목 수 (근사값)
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount; // 크기/만료로 제거된 항목 수
+
+    public static CacheStatsResponse from(Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return CacheStatsResponse.builder()
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.coupon_admin.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ChunkedUploadInitRequest {
+
+    @NotBlank(message = "파일명이 비어 있습니다.")
+    private String fileName;
+
+    @NotNull(message = "파일 크기가 비어 있습니다.")
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    private Long fileSize; // 전체 파일 크기 (조각 수 계산과 조각 크기 검사에 사용)
+
+    private String contentType;
+}
@@ -0,0 +1,36 @@
+package com.example.coupon_admin.dto;
+
+import com.example.coupon_admin.domain.UploadFile;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChunkedUploadResponse {
+
+    private Long fileId;
+    private String status;
+    private Long fileSize;
+    private Long chunkSize;         // 마지막 조각을 제외한 모든 조각의 크기
+    private Integer totalChunks;
+    private Integer uploadedChunks; // 저장이 확인된 조각 수
+    private Integer nextChunk;      // 다음에 보낼 조각 번호 (모두 받았으면 null)
+
+    public static ChunkedUploadResponse fromEntity(UploadFile file) {
+        int uploaded = file.getUploadedChunks() != null ? file.getUploadedChunks() : 0;
+        boolean remaining = file.getTotalChunks() != null && uploaded < file.getTotalChunks();
+        return ChunkedUploadResponse.builder()
+                .fileId(file.getId())
+                .status(file.getStatus().name())
+                .fileSize(file.getFileSize())
+                .chunkSize(file.getChunkSize())
+                .totalChunks(file.getTotalChunks())
+                .uploadedChunks(uploaded)
+                .nextChunk(remaining && file.isChunkedUploadInProgress() ? uploaded + 1 : null)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.coupon_admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileListResponse {
+
+    private List<FileSummaryResponse> files; // 최신순 (createdAt, fileId 내림차순)
+    private boolean hasNext;
+    private String nextCursor;               // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+}
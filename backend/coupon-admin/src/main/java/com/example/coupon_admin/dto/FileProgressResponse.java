@@ -0,0 +1,18 @@
+package com.example.coupon_admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileProgressResponse {
+
+    private Long fileId;
+    private long bytesRead;  // 검증 파이프라인이 지금까지 읽은 바이트 수
+    private long rowsValidated; // 지금까지 검증한 데이터 행 수 (헤더 제외)
+    private Long totalBytes; // 전체 크기 (모르면 null)
+}
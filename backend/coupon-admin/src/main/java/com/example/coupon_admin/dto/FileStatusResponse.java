@@ -0,0 +1,36 @@
+package com.example.coupon_admin.dto;
+
+import com.example.coupon_admin.domain.UploadFile;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileStatusResponse {
+
+    private Long fileId;
+    private String fileName;
+    private String status;
+    private String failureReason;
+    private Long rowCount;       // 검증한 데이터 행 수
+    private Long duplicateCount; // 중복 customer_id 행 수
+    private Boolean duplicatesTruncated; // true이면 duplicateCount는 하한값 (중복 탐지 메모리 한도 도달)
+    private Long ingestedRows;   // 대상 테이블에 적재된 행 수
+
+    public static FileStatusResponse fromEntity(UploadFile file) {
+        return FileStatusResponse.builder()
+                .fileId(file.getId())
+                .fileName(file.getOriginalFileName())
+                .status(file.getStatus().name())
+                .failureReason(file.getFailureReason())
+                .rowCount(file.getRowCount())
+                .duplicateCount(file.getDuplicateCount())
+                .duplicatesTruncated(file.getDuplicatesTruncated())
+                .ingestedRows(file.getIngestedRows())
+                .build();
+    }
+}
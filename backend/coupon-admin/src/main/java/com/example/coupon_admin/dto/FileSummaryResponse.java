@@ -0,0 +1,25 @@
+package com.example.coupon_admin.dto;
+
+import com.example.coupon_admin.domain.FileStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 파일 목록 한 행 (목록 쿼리에서 필요한 컬럼만 조회하여 바로 생성, 엔티티를 로딩하지 않음)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileSummaryResponse {
+
+    private Long fileId;
+    private String fileName;
+    private FileStatus status;
+    private Long fileSize;
+    private Long rowCount;       // 검증한 데이터 행 수
+    private Long duplicateCount; // 중복 customer_id 행 수
+    private Boolean duplicatesTruncated; // true이면 duplicateCount는 하한값
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,27 @@
+package com.example.coupon_admin.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+public class IssuanceRequest {
+
+    @NotNull(message = "fileId가 비어 있습니다.")
+    @Positive(message = "유효하지 않은 fileId 입니다.")
+    private Long fileId; // 검증을 통과한 업로드 파일
+
+    @NotBlank(message = "쿠폰 코드가 비어 있습니다.")
+    @Size(max = 64, message = "쿠폰 코드는 64자 이하여야 합니다.")
+    private String couponCode;
+
+    private String couponName;
+
+    private LocalDateTime expiresAt; // 쿠폰 만료 시각 (없으면 만료 없음)
+}
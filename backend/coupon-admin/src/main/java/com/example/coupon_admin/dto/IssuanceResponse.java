@@ -0,0 +1,68 @@
+package com.example.coupon_admin.dto;
+
+import com.example.coupon_admin.domain.CouponIssuance;
+import com.example.coupon_admin.domain.IssuancePartition;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssuanceResponse {
+
+    private Long issuanceId;
+    private Long fileId;
+    private String couponCode;
+    private String couponName;
+    private LocalDateTime expiresAt;
+    private String status;
+    private String failureReason;
+    private Long issuedCount;            // 지금까지 커밋된 발급 수 (모든 파티션의 합)
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    private List<PartitionProgress> partitions;
+
+    public static IssuanceResponse of(CouponIssuance issuance, List<IssuancePartition> partitions) {
+        return IssuanceResponse.builder()
+                .issuanceId(issuance.getId())
+                .fileId(issuance.getUploadFileId())
+                .couponCode(issuance.getCouponCode())
+                .couponName(issuance.getCouponName())
+                .expiresAt(issuance.getExpiresAt())
+                .status(issuance.getStatus().name())
+                .failureReason(issuance.getFailureReason())
+                .issuedCount(partitions.stream().mapToLong(IssuancePartition::getIssuedCount).sum())
+                .createdAt(issuance.getCreatedAt())
+                .completedAt(issuance.getCompletedAt())
+                .partitions(partitions.stream().map(PartitionProgress::fromEntity).toList())
+                .build();
+    }
+
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PartitionProgress {
+        private Integer partitionNumber;
+        private String status;
+        private Long checkpointRow;  // 발급이 커밋된 마지막 파일 행 번호
+        private Long issuedCount;
+        private String failureReason;
+
+        public static PartitionProgress fromEntity(IssuancePartition partition) {
+            return PartitionProgress.builder()
+                    .partitionNumber(partition.getPartitionNumber())
+                    .status(partition.getStatus().name())
+                    .checkpointRow(partition.getCheckpointRow())
+                    .issuedCount(partition.getIssuedCount())
+                    .failureReason(partition.getFailureReason())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.coupon_admin.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PresignedUploadRequest {
+
+    @NotBlank(message = "파일명이 비어 있습니다.")
+    private String fileName;
+
+    private String contentType; // PUT 요청 시 동일한 Content-Type 헤더를 사용해야 함
+}
@@ -0,0 +1,20 @@
+package com.example.coupon_admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUploadResponse {
+
+    private Long fileId;
+    private String uploadUrl;
+    private String contentType;      // PUT 요청에 그대로 사용해야 하는 Content-Type
+    private LocalDateTime expiresAt; // URL 만료 시각
+}
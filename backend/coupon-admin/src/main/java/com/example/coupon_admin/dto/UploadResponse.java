@@ -20,7 +20,15 @@ public class UploadResponse {
         return UploadResponse.builder()
                 .fileId(file.getId())
                 .status(file.getStatus().name())
-                .message("파일 업로드가 정상적으로 접수되었습니다. 잠시 후 처리 결과를 확인하세요.")
+                .message(messageOf(file))
                 .build();
     }
+
+    private static String messageOf(UploadFile file) {
+        return switch (file.getStatus()) {
+            case COMPLETED -> "파일 업로드 및 검증이 완료되었습니다.";
+            case FAILED -> file.getFailureReason();
+            default -> "파일 업로드가 정상적으로 접수되었습니다. 잠시 후 처리 결과를 확인하세요.";
+        };
+    }
 }
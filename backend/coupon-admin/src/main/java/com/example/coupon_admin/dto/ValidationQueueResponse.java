@@ -0,0 +1,24 @@
+package com.example.coupon_admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ValidationQueueResponse {
+
+    private int concurrency;     // 최대 동시 검증 수
+    private int queueCapacity;   // 대기 큐 크기
+    private int activeCount;     // 실행 중인 검증 수
+    private int queuedCount;     // 대기 큐의 검증 수
+    private int pendingCount;    // 큐가 가득 차 UPLOADING 상태로 대기 중인 파일 수 (rejection-policy=pending)
+    private long completedCount; // 완료된 검증 수
+    private long rejectedCount;  // 큐가 가득 차 거절된 제출 수
+    private long statusWriteCount;   // 검증 작업자가 요청한 상태 기록 수
+    private long statusFlushCount;   // 상태 기록을 반영한 배치 UPDATE 수
+    private int statusPendingCount;  // 반영 대기 중인 상태 기록 수
+}
@@ -0,0 +1,33 @@
+package com.example.coupon_admin.global.async;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 애플리케이션 전용 실행기의 스레드 팩토리.
+ *
+ * spring.threads.virtual.enabled=true이면 Tomcat 요청 처리와 함께 전용 실행기도 가상 스레드를 사용합니다.
+ * 가상 스레드 모드에서도 풀 크기(동시 실행 수) 제한은 그대로이며, 블로킹 I/O 중인 스레드의 비용만 줄어듭니다.
+ */
+public final class ThreadFactories {
+
+    private ThreadFactories() {
+    }
+
+    /**
+     * @param prefix 스레드 이름 접두사 (뒤에 1부터 번호가 붙음)
+     * @param virtual 가상 스레드 사용 여부
+     * @param daemon 플랫폼 스레드일 때 데몬 여부 (가상 스레드는 항상 데몬)
+     */
+    public static ThreadFactory named(String prefix, boolean virtual, boolean daemon) {
+        if (virtual) {
+            return Thread.ofVirtual().name(prefix, 1).factory();
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(daemon);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.coupon_admin.global.async;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 파일 검증 전용 실행기.
+ *
+ * 기본 @Async 실행기(무제한 큐) 대신 동시 실행 수와 대기 큐 크기를 모두 제한하여
+ * 대량 업로드 시간대에도 동시에 진행되는 스토리지 다운로드와 검증 메모리가 일정하게 유지되도록 합니다.
+ *
+ * - 동시 실행: concurrency 개의 고정 스레드 (spring.threads.virtual.enabled=true이면 가상 스레드)
+ * - 대기 큐: queue-capacity 개까지, 우선순위(작은 파일 먼저, 같은 크기는 제출 순서) 큐
+ * - 에이징: 파일 크기를 aging-rate로 나눈 시간(최대 max-priority-delay)만큼 제출 시각을 늦춘 값으로 정렬하므로,
+ *   큰 파일(크기를 모르는 파일 포함)은 그 시간이 지난 뒤 제출된 작은 파일에는 더 이상 밀리지 않음
+ * - 큐가 가득 차면 {@link RejectedExecutionException}을 던지며, 처리 방식(실패/대기)은 호출자가 결정
+ * - 작업이 끝날 때마다(제출 경로와 무관) 완료 리스너를 호출하므로, 호출자는 큐에 생긴 빈자리에 대기 작업을 다시 제출할 수 있음
+ * - 반환된 Future의 cancel은 실행 전인 작업만 큐에서 빼고 취소하며, 이미 실행 중이면 false를 반환 (호출자는 완료를 기다려야 함)
+ *
+ * 지표: coupon.validation.queue.wait(제출부터 실행 시작까지 대기 시간), coupon.validation.executor.active/queued, coupon.validation.executor.rejected
+ */
+@Slf4j
+@Component
+@DependsOn("fileStatusWriter") // 종료 시 남은 검증이 상태를 기록할 수 있도록 FileStatusWriter보다 먼저 종료
+public class ValidationExecutor {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final ThreadPoolExecutor executor;
+    private final int concurrency;
+    private final int queueCapacity;
+    private final double agingBytesPerNano;
+    private final long maxPriorityDelayNanos;
+    private final long startedAt = System.nanoTime();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final Timer queueWait;
+    private final List<Runnable> completionListeners = new CopyOnWriteArrayList<>();
+
+    public ValidationExecutor(
+            @Value("${app.validation.executor.concurrency:4}") int concurrency,
+            @Value("${app.validation.executor.queue-capacity:100}") int queueCapacity,
+            @Value("${app.validation.executor.aging-rate:10MB}") DataSize agingRate,
+            @Value("${app.validation.executor.max-priority-delay:60s}") Duration maxPriorityDelay,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            MeterRegistry meterRegistry) {
+        if (agingRate.toBytes() <= 0) {
+            throw new IllegalArgumentException("app.validation.executor.aging-rate must be positive.");
+        }
+        this.concurrency = concurrency;
+        this.queueCapacity = queueCapacity;
+        this.agingBytesPerNano = agingRate.toBytes() / 1e9;
+        this.maxPriorityDelayNanos = maxPriorityDelay.toNanos();
+        this.executor = new ThreadPoolExecutor(
+                concurrency,
+                concurrency,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new BoundedPriorityQueue(queueCapacity),
+                ThreadFactories.named("validation-", virtualThreads, false),
+                new ThreadPoolExecutor.AbortPolicy()
+        ) {
+            @Override
+            protected void afterExecute(Runnable task, Throwable t) {
+                notifyCompletion();
+            }
+        };
+
+        this.queueWait = Timer.builder("coupon.validation.queue.wait")
+                .description("Time a validation task waits in the queue before it starts")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("coupon.validation.executor.active", this, ValidationExecutor::getActiveCount)
+                .description("Running validation tasks")
+                .register(meterRegistry);
+        Gauge.builder("coupon.validation.executor.queued", this, ValidationExecutor::getQueuedCount)
+                .description("Queued validation tasks")
+                .register(meterRegistry);
+        FunctionCounter.builder("coupon.validation.executor.rejected", this, ValidationExecutor::getRejectedCount)
+                .description("Validation submissions rejected because the queue was full")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        // 이미 시작했거나 큐에 있는 검증은 마치고 종료
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("Validation executor did not terminate in {}s. queued={}", SHUTDOWN_TIMEOUT_SECONDS, executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 검증 작업을 제출합니다.
+     *
+     * @param fileSize 파일 크기 (작을수록 먼저 실행, 알 수 없으면 Long.MAX_VALUE)
+     * @param task 실행할 작업
+     * @return 작업 결과 (작업 중 예외는 예외 완료로 전달, cancel은 실행 전에만 성공)
+     * @throws RejectedExecutionException 대기 큐가 가득 찼거나 종료 중인 경우
+     */
+    public <T> CompletableFuture<T> submit(long fileSize, Supplier<T> task) {
+        TaskFuture<T> future = new TaskFuture<>(executor);
+        long submittedAt = System.nanoTime();
+        Runnable body = () -> {
+            if (!future.start()) {
+                return; // 실행 전에 취소됨
+            }
+            queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            try {
+                future.complete(task.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        };
+        future.task = new PrioritizedTask(priorityOf(fileSize, submittedAt), sequence.getAndIncrement(), body);
+
+        try {
+            executor.execute(future.task);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            throw e;
+        }
+        return future;
+    }
+
+    // 실행 순서 키 (작을수록 먼저): 제출 시각 + 크기에 비례한 지연 (최대 max-priority-delay)
+    private long priorityOf(long fileSize, long submittedAt) {
+        long delay = (long) Math.min(maxPriorityDelayNanos, fileSize / agingBytesPerNano);
+        return (submittedAt - startedAt) + delay;
+    }
+
+    /**
+     * 작업이 끝날 때마다(성공/실패 무관) 작업자 스레드에서 호출할 리스너를 등록합니다.
+     */
+    public void addCompletionListener(Runnable listener) {
+        completionListeners.add(listener);
+    }
+
+    private void notifyCompletion() {
+        for (Runnable listener : completionListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                log.warn("Validation completion listener failed.", e);
+            }
+        }
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    // 실행 중인 작업 수
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    // 대기 큐에 있는 작업 수
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    // 완료된 작업 수 (근사값)
+    public long getCompletedCount() {
+        return executor.getCompletedTaskCount();
+    }
+
+    // 큐가 가득 차 거절된 작업 수
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * 실행 전에만 취소할 수 있는 작업 결과. 취소하면 대기 큐에서 바로 빠져 자리를 비웁니다.
+     * 실행 중인 검증은 입력(스풀 파일 등)을 읽고 있으므로 취소하지 않고, 호출자가 완료를 기다린 뒤 입력을 정리합니다.
+     */
+    private static final class TaskFuture<T> extends CompletableFuture<T> {
+        private final ThreadPoolExecutor executor;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private volatile Runnable task;
+
+        private TaskFuture(ThreadPoolExecutor executor) {
+            this.executor = executor;
+        }
+
+        // 작업자가 실행을 시작할 때 호출 (이미 취소됐으면 false)
+        private boolean start() {
+            return started.compareAndSet(false, true);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!started.compareAndSet(false, true)) {
+                return isCancelled();
+            }
+            executor.remove(task);
+            return super.cancel(mayInterruptIfRunning);
+        }
+    }
+
+    /**
+     * 우선순위 키 기준 작업. 키가 같으면 먼저 제출된 작업이 먼저 실행됩니다.
+     * 키는 제출 시 한 번 정해지므로 큐 안에서 순서가 바뀌지 않습니다. (대기 시간을 키에 반영하지 않아도 에이징과 같은 순서)
+     */
+    private static final class PrioritizedTask implements Runnable, Comparable<PrioritizedTask> {
+        private final long priority;
+        private final long sequence;
+        private final Runnable body;
+
+        private PrioritizedTask(long priority, long sequence, Runnable body) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.body = body;
+        }
+
+        @Override
+        public void run() {
+            body.run();
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask other) {
+            int byPriority = Long.compare(priority, other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * 크기 제한이 있는 우선순위 큐. PriorityBlockingQueue는 제한이 없으므로 offer에서 용량을 검사합니다.
+     * 넣는 쪽만 직렬화하면 꺼내는 쪽은 크기를 줄이기만 하므로 용량을 넘지 않습니다.
+     */
+    private static final class BoundedPriorityQueue extends PriorityBlockingQueue<Runnable> {
+        private final int capacity;
+
+        private BoundedPriorityQueue(int capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public synchronized boolean offer(Runnable task) {
+            if (size() >= capacity) {
+                return false;
+            }
+            return super.offer(task);
+        }
+
+        @Override
+        public int remainingCapacity() {
+            return Math.max(0, capacity - size());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.coupon_admin.global.config;
+
+import com.example.coupon_admin.global.async.ThreadFactories;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 적재, 쿠폰 발급 재개 등 백그라운드 작업용 @Async 실행기.
+ *
+ * 기본 @Async 실행기는 대기 큐가 무제한이라 적재 요청이 몰리면 작업이 끝없이 쌓이므로,
+ * 동시 실행 수와 대기 큐 크기를 모두 제한한 실행기를 이름으로 지정해 사용합니다. (@Async("ingestionExecutor"))
+ * 큐가 가득 차면 제출 시 TaskRejectedException이 발생합니다.
+ * 실행기 크기와 대기 작업 수는 Actuator가 executor.* 지표(name=ingestionExecutor)로 노출합니다.
+ */
+@Configuration
+public class AsyncConfig {
+
+    public static final String INGESTION_EXECUTOR = "ingestionExecutor";
+
+    // 동시에 실행하는 적재 작업 수 (동시에 사용하는 DB 커넥션 수의 상한)
+    @Value("${app.ingestion.executor.concurrency:2}")
+    private int concurrency;
+
+    // 실행을 기다리는 적재 작업 수 상한
+    @Value("${app.ingestion.executor.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // 종료 시 진행 중인 적재는 중단하고, 다음 기동 시 체크포인트부터 재개
+    @Bean(INGESTION_EXECUTOR)
+    public ThreadPoolTaskExecutor ingestionExecutor(TaskDecorator asyncQueueWaitDecorator) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadFactory(ThreadFactories.named("ingestion-", virtualThreads, false));
+        executor.setTaskDecorator(asyncQueueWaitDecorator);
+        return executor;
+    }
+}
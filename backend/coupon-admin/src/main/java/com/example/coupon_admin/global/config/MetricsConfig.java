@@ -0,0 +1,44 @@
+package com.example.coupon_admin.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class MetricsConfig {
+
+    @Value("${spring.application.name:coupon-admin}")
+    private String applicationName;
+
+    // 모든 지표에 application 태그 (여러 서비스가 같은 Prometheus를 쓸 때 구분)
+    @Bean
+    public MeterRegistryCustomizer<MeterRegistry> commonTags() {
+        return registry -> registry.config().commonTags("application", applicationName);
+    }
+
+    /**
+     * @Async 실행기(적재, 쿠폰 발급 재개 등)의 대기 시간을 기록합니다.
+     * {@link AsyncConfig}의 실행기에 이 데코레이터를 적용하며, 실행기 크기/대기 작업 수는 Actuator가 executor.* 지표로 노출합니다.
+     */
+    @Bean
+    public TaskDecorator asyncQueueWaitDecorator(MeterRegistry meterRegistry) {
+        Timer queueWait = Timer.builder("coupon.async.queue.wait")
+                .description("Time an @Async task waits before it starts")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        return task -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                task.run();
+            };
+        };
+    }
+}
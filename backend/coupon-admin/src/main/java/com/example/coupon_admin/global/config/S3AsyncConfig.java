@@ -0,0 +1,97 @@
+package com.example.coupon_admin.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * 논블로킹 S3 클라이언트 (AsyncStorageService용).
+ *
+ * 동기 S3Client(Apache, 요청당 스레드)와 커넥션 풀을 따로 사용합니다.
+ * 전송은 소수의 Netty 이벤트 루프 스레드가 처리하므로, 동시에 진행 중인 전송 수는 스레드 수가 아닌 max-concurrency로 제한됩니다.
+ * cloud.aws.s3.async.enabled=false이면 만들지 않으며, 업로드/검증은 동기 StorageService만 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "cloud.storage.provider", havingValue = "s3", matchIfMissing = true)
+@ConditionalOnBooleanProperty(name = "cloud.aws.s3.async.enabled", matchIfMissing = true)
+public class S3AsyncConfig {
+
+    @Value("${cloud.aws.credentials.access-key}")
+    private String accessKey;
+
+    @Value("${cloud.aws.credentials.secret-key}")
+    private String secretKey;
+
+    @Value("${cloud.aws.region.static}")
+    private String region;
+
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    // 동시에 열 수 있는 최대 커넥션 수 (= 동시 전송 수 상한)
+    @Value("${cloud.aws.s3.async.max-concurrency:200}")
+    private int maxConcurrency;
+
+    // 커넥션을 기다리는 요청 수 상한 (넘으면 즉시 실패)
+    @Value("${cloud.aws.s3.async.max-pending-connection-acquires:10000}")
+    private int maxPendingConnectionAcquires;
+
+    @Value("${cloud.aws.s3.async.connection-acquisition-timeout:10s}")
+    private Duration connectionAcquisitionTimeout;
+
+    // 이벤트 루프 스레드 수 (0이면 SDK 기본값: CPU 코어 수 기반)
+    @Value("${cloud.aws.s3.async.event-loop-threads:0}")
+    private int eventLoopThreads;
+
+    // 이 크기 이상이면 SDK가 파트로 나누어 병렬 업로드 (동기 클라이언트와 같은 설정 사용)
+    @Value("${cloud.aws.s3.multipart.threshold:16MB}")
+    private DataSize multipartThreshold;
+
+    @Value("${cloud.aws.s3.multipart.part-size:8MB}")
+    private DataSize partSize;
+
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient() {
+        AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+
+        NettyNioAsyncHttpClient.Builder httpClient = NettyNioAsyncHttpClient.builder()
+                .maxConcurrency(maxConcurrency)
+                .maxPendingConnectionAcquires(maxPendingConnectionAcquires)
+                .connectionAcquisitionTimeout(connectionAcquisitionTimeout);
+        if (eventLoopThreads > 0) {
+            httpClient.eventLoopGroupBuilder(SdkEventLoopGroup.builder().numberOfThreads(eventLoopThreads));
+        }
+
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .httpClientBuilder(httpClient)
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes(multipartThreshold.toBytes())
+                        .minimumPartSizeInBytes(partSize.toBytes())
+                        .build());
+
+        // LocalStack 또는 커스텀 endpoint가 설정된 경우
+        if (endpoint != null && !endpoint.isEmpty()) {
+            builder.endpointOverride(URI.create(endpoint))
+                   .forcePathStyle(true);
+        }
+
+        return builder.build();
+    }
+}
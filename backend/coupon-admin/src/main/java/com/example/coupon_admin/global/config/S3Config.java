@@ -1,10 +1,12 @@
 package com.example.coupon_admin.global.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3ClientBuilder;
@@ -12,8 +14,10 @@ import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 import java.net.URI;
+import java.time.Duration;
 
 @Configuration
+@ConditionalOnProperty(name = "cloud.storage.provider", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
 
     @Value("${cloud.aws.credentials.access-key}")
@@ -28,13 +32,24 @@ public class S3Config {
     @Value("${cloud.aws.s3.endpoint:}")
     private String endpoint;
 
+    // S3 HTTP 커넥션 풀 크기 (가상 스레드 모드에서는 스레드 대신 이 값이 동시 S3 호출 수의 상한이 됨)
+    @Value("${cloud.aws.s3.max-connections:50}")
+    private int maxConnections;
+
+    // 커넥션 풀이 가득 찼을 때 빈 커넥션을 기다리는 최대 시간
+    @Value("${cloud.aws.s3.connection-acquisition-timeout:10s}")
+    private Duration connectionAcquisitionTimeout;
+
     @Bean
     public S3Client s3Client() {
         AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
 
         S3ClientBuilder builder = S3Client.builder()
                 .region(Region.of(region))
-                .credentialsProvider(StaticCredentialsProvider.create(credentials));
+                .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .httpClientBuilder(ApacheHttpClient.builder()
+                        .maxConnections(maxConnections)
+                        .connectionAcquisitionTimeout(connectionAcquisitionTimeout));
 
         // LocalStack 또는 커스텀 endpoint가 설정된 경우
         if (endpoint != null && !endpoint.isEmpty()) {
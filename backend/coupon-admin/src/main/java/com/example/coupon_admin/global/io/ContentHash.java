@@ -0,0 +1,67 @@
+package com.example.coupon_admin.global.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 파일 내용 해시(SHA-256) 계산 유틸리티. 동일한 내용의 재업로드를 찾는 데 사용합니다.
+ */
+public final class ContentHash {
+
+    public static final String ALGORITHM = "SHA-256";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long MAP_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private ContentHash() {
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+
+    /**
+     * 스트림 끝까지 읽어 해시를 계산합니다. 스트림은 닫지 않습니다.
+     *
+     * @return 소문자 16진수 문자열 (64자)
+     */
+    public static String sha256(InputStream in) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return toHex(digest);
+    }
+
+    /**
+     * 로컬 파일을 메모리 매핑하여 해시를 계산합니다. (읽기 버퍼로 복사하지 않음)
+     *
+     * @return 소문자 16진수 문자열 (64자)
+     */
+    public static String sha256(Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size; position += MAP_WINDOW_SIZE) {
+                digest.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_WINDOW_SIZE, size - position)));
+            }
+        }
+        return toHex(digest);
+    }
+
+    public static String toHex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.coupon_admin.global.io;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongSupplier;
+
+/**
+ * 해제된 바이트 수가 읽어 들인 압축 바이트 수의 maxRatio배를 넘으면 읽기를 중단하는 InputStream. (압축 폭탄 방지)
+ * 작은 파일은 비율이 높게 나올 수 있으므로 해제된 바이트가 minBytes를 넘은 뒤부터 검사합니다.
+ */
+public class ExpansionLimitInputStream extends FilterInputStream {
+
+    private final LongSupplier compressedBytes;
+    private final long maxRatio;
+    private final long minBytes;
+    private long inflatedBytes;
+
+    public ExpansionLimitInputStream(InputStream inflated, LongSupplier compressedBytes, long maxRatio, long minBytes) {
+        super(inflated);
+        this.compressedBytes = compressedBytes;
+        this.maxRatio = maxRatio;
+        this.minBytes = minBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b != -1) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = in.read(b, off, len);
+        if (n > 0) {
+            count(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = in.skip(n);
+        if (skipped > 0) {
+            count(skipped);
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    private void count(long n) throws IOException {
+        inflatedBytes += n;
+        if (inflatedBytes <= minBytes) {
+            return;
+        }
+        long compressed = Math.max(compressedBytes.getAsLong(), 1);
+        if (inflatedBytes / compressed > maxRatio) {
+            throw new IOException("Compressed content expands more than " + maxRatio
+                    + "x (" + compressed + " -> " + inflatedBytes + " bytes). Possible zip bomb.");
+        }
+    }
+}
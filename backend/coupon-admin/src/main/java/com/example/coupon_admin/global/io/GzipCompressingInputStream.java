@@ -0,0 +1,90 @@
+package com.example.coupon_admin.global.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 원본 스트림을 읽는 만큼 gzip으로 압축해 내보내는 InputStream.
+ * 스토리지 API는 InputStream을 받으므로 GZIPOutputStream을 뒤집어, 압축된 바이트를 작은 내부 버퍼에만 담습니다.
+ * (전체 내용을 메모리에 모으지 않음)
+ */
+public class GzipCompressingInputStream extends InputStream {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream source;
+    private final DrainableBuffer compressed = new DrainableBuffer();
+    private final GZIPOutputStream gzip;
+    private final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+    private int position;
+    private boolean finished;
+
+    public GzipCompressingInputStream(InputStream source) throws IOException {
+        this.source = source;
+        this.gzip = new GZIPOutputStream(compressed, READ_BUFFER_SIZE);
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return compressed.byteAt(position++) & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int n = Math.min(len, compressed.size() - position);
+        compressed.copyTo(position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            source.close();
+        } finally {
+            gzip.close();
+        }
+    }
+
+    // 내보낼 압축 바이트가 없으면 원본을 더 읽어 압축 (원본이 끝나면 gzip trailer까지 기록)
+    private boolean fill() throws IOException {
+        while (position == compressed.size()) {
+            if (finished) {
+                return false;
+            }
+            compressed.reset();
+            position = 0;
+
+            int n = source.read(readBuffer);
+            if (n < 0) {
+                gzip.finish();
+                finished = true;
+            } else {
+                gzip.write(readBuffer, 0, n);
+            }
+        }
+        return true;
+    }
+
+    private static final class DrainableBuffer extends ByteArrayOutputStream {
+
+        private byte byteAt(int index) {
+            return buf[index];
+        }
+
+        private void copyTo(int from, byte[] target, int offset, int length) {
+            System.arraycopy(buf, from, target, offset, length);
+        }
+    }
+}
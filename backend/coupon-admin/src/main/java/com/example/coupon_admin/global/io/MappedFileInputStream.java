@@ -0,0 +1,110 @@
+package com.example.coupon_admin.global.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 파일의 한 구간을 메모리 매핑하여 읽는 InputStream.
+ * 커널 페이지 캐시를 그대로 읽으므로 read 시스템 콜과 커널→사용자 버퍼 복사가 없습니다.
+ * 2GB를 넘는 파일도 읽을 수 있도록 window 크기만큼씩 매핑을 옮겨 가며 읽습니다.
+ */
+public class MappedFileInputStream extends InputStream {
+
+    private final FileChannel channel;
+    private final long end;
+    private final long window;
+    private long position;          // 다음에 매핑할 구간의 시작 오프셋
+    private MappedByteBuffer buffer; // 현재 매핑된 구간
+
+    private MappedFileInputStream(FileChannel channel, long start, long end, long window) {
+        this.channel = channel;
+        this.position = start;
+        this.end = end;
+        this.window = window;
+    }
+
+    /**
+     * @param path 읽을 파일
+     * @param start 시작 오프셋 (포함)
+     * @param end 끝 오프셋 (제외, 파일 크기를 넘으면 파일 끝까지)
+     * @param window 한 번에 매핑할 최대 크기 (bytes)
+     */
+    public static MappedFileInputStream open(Path path, long start, long end, long window) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new MappedFileInputStream(channel, start, Math.min(end, channel.size()), window);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureMapped()) {
+            return -1;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureMapped()) {
+            return -1;
+        }
+        int n = Math.min(len, buffer.remaining());
+        buffer.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        long skipped = 0;
+        if (buffer != null) {
+            int inBuffer = (int) Math.min(n, buffer.remaining());
+            buffer.position(buffer.position() + inBuffer);
+            skipped = inBuffer;
+        }
+        // 매핑되지 않은 구간은 매핑하지 않고 위치만 옮김
+        long beyond = Math.min(n - skipped, end - position);
+        position += beyond;
+        return skipped + beyond;
+    }
+
+    @Override
+    public int available() {
+        long remaining = (buffer != null ? buffer.remaining() : 0) + (end - position);
+        return (int) Math.min(remaining, Integer.MAX_VALUE);
+    }
+
+    // 매핑은 채널을 닫아도 유효하며, 버퍼가 GC될 때 해제됨
+    @Override
+    public void close() throws IOException {
+        buffer = null;
+        position = end;
+        channel.close();
+    }
+
+    // 현재 매핑을 다 읽었으면 다음 구간을 매핑 (더 읽을 구간이 없으면 false)
+    private boolean ensureMapped() throws IOException {
+        while (buffer == null || !buffer.hasRemaining()) {
+            if (position >= end) {
+                return false;
+            }
+            long size = Math.min(window, end - position);
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+            position += size;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.coupon_admin.global.io;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongConsumer;
+
+/**
+ * 읽은 바이트 수를 리스너에 알리는 InputStream. (검증 진행률 보고용)
+ * 리스너는 읽기마다 이번에 읽은 바이트 수(증분)를 받으며, 누적과 보고 주기 조절은 리스너가 담당합니다.
+ */
+public class ProgressInputStream extends FilterInputStream {
+
+    private final LongConsumer listener;
+
+    public ProgressInputStream(InputStream in, LongConsumer listener) {
+        super(in);
+        this.listener = listener;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b != -1) {
+            listener.accept(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = in.read(b, off, len);
+        if (n > 0) {
+            listener.accept(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = in.skip(n);
+        if (skipped > 0) {
+            listener.accept(skipped);
+        }
+        return skipped;
+    }
+
+    // 되감은 바이트를 다시 셀 수 없으므로 mark/reset은 지원하지 않음
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+}
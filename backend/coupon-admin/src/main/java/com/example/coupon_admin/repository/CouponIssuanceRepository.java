@@ -0,0 +1,12 @@
+package com.example.coupon_admin.repository;
+
+import com.example.coupon_admin.domain.CouponIssuance;
+import com.example.coupon_admin.domain.IssuanceStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface CouponIssuanceRepository extends JpaRepository<CouponIssuance, Long> {
+
+    List<CouponIssuance> findByStatus(IssuanceStatus status);
+}
@@ -0,0 +1,21 @@
+package com.example.coupon_admin.repository;
+
+import com.example.coupon_admin.domain.IssuancePartition;
+import com.example.coupon_admin.domain.IssuanceStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface IssuancePartitionRepository extends JpaRepository<IssuancePartition, Long> {
+
+    List<IssuancePartition> findByIssuanceIdOrderByPartitionNumberAsc(Long issuanceId);
+
+    long countByIssuanceIdAndStatusNot(Long issuanceId, IssuanceStatus status);
+
+    long countByIssuanceIdAndStatus(Long issuanceId, IssuanceStatus status);
+
+    @Query("select coalesce(sum(p.issuedCount), 0) from IssuancePartition p where p.issuanceId = :issuanceId")
+    long sumIssuedCount(@Param("issuanceId") Long issuanceId);
+}
@@ -1,7 +1,51 @@
 package com.example.coupon_admin.repository;
 
+import com.example.coupon_admin.domain.FileStatus;
 import com.example.coupon_admin.domain.UploadFile;
+import com.example.coupon_admin.dto.FileSummaryResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface UploadFileRepository extends JpaRepository<UploadFile, Long> {
+
+    List<UploadFile> findByStatus(FileStatus status);
+
+    // 내용이 같고 검증을 통과한 파일 중 가장 먼저 올라온 파일 (content_hash 인덱스 사용)
+    Optional<UploadFile> findFirstByContentHashAndStatusInOrderByIdAsc(String contentHash, Collection<FileStatus> statuses);
+
+    // 마지막 조각 수신 후 오래 방치된 조각 업로드 세션
+    List<UploadFile> findByStatusAndMultipartUploadIdIsNotNullAndLastChunkAtBefore(FileStatus status, LocalDateTime threshold);
+
+    // 크기가 확정된 채 오래 갱신되지 않은 파일 (검증 대기 중 재시작으로 잃은 파일 재제출)
+    List<UploadFile> findByStatusAndFileSizeIsNotNullAndMultipartUploadIdIsNullAndUpdatedAtBefore(FileStatus status, LocalDateTime threshold);
+
+    // 목록 keyset 페이지: (createdAt, id)가 커서보다 작은 행을 최신순으로 (idx_upload_file_created_at 역순 탐색, OFFSET 없음)
+    @Query("select new com.example.coupon_admin.dto.FileSummaryResponse("
+            + "f.id, f.originalFileName, f.status, f.fileSize, f.rowCount, f.duplicateCount, f.duplicatesTruncated, f.createdAt, f.updatedAt) "
+            + "from UploadFile f "
+            + "where f.createdAt >= :from and (f.createdAt, f.id) < (:cursorAt, :cursorId) "
+            + "order by f.createdAt desc, f.id desc")
+    List<FileSummaryResponse> findSummaries(@Param("from") LocalDateTime from,
+                                            @Param("cursorAt") LocalDateTime cursorAt,
+                                            @Param("cursorId") Long cursorId,
+                                            Pageable limit);
+
+    // 상태별 목록 keyset 페이지 (idx_upload_file_status_created_at)
+    @Query("select new com.example.coupon_admin.dto.FileSummaryResponse("
+            + "f.id, f.originalFileName, f.status, f.fileSize, f.rowCount, f.duplicateCount, f.duplicatesTruncated, f.createdAt, f.updatedAt) "
+            + "from UploadFile f "
+            + "where f.status = :status and f.createdAt >= :from and (f.createdAt, f.id) < (:cursorAt, :cursorId) "
+            + "order by f.createdAt desc, f.id desc")
+    List<FileSummaryResponse> findSummariesByStatus(@Param("status") FileStatus status,
+                                                    @Param("from") LocalDateTime from,
+                                                    @Param("cursorAt") LocalDateTime cursorAt,
+                                                    @Param("cursorId") Long cursorId,
+                                                    Pageable limit);
 }
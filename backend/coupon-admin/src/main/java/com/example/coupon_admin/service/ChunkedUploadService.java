@@ -0,0 +1,227 @@
+package com.example.coupon_admin.service;
+
+import com.example.coupon_admin.domain.FileStatus;
+import com.example.coupon_admin.domain.UploadFile;
+import com.example.coupon_admin.repository.UploadFileRepository;
+import com.example.coupon_admin.storage.StorageService;
+import com.example.coupon_admin.validator.FileValidatorFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 재개 가능한 조각(chunk) 업로드.
+ *
+ * 1. init: 전체 크기를 받아 조각 크기/수를 정하고 스토리지 멀티파트 업로드를 시작 (UPLOADING)
+ * 2. chunk N: 조각 N을 멀티파트 파트 N으로 바로 저장하고, 저장이 끝난 뒤에만 uploadedChunks를 올림
+ * 3. status: 연결이 끊긴 클라이언트는 nextChunk부터 다시 보냄 (이미 확인된 조각은 다시 보내도 무시)
+ * 4. complete: 파트를 하나의 객체로 합친 뒤 스토리지 기반 검증 시작
+ *
+ * 조각은 서버 메모리나 디스크에 모으지 않고 스토리지로 스트리밍하므로, 세션 수와 무관하게 서버 메모리 사용량이 일정합니다.
+ * 마지막 조각 수신 후 session-ttl이 지난 세션은 주기적으로 취소(파트 삭제)하고 FAILED 처리합니다.
+ *
+ * 같은 세션에 대한 요청(조각 재전송, 완료, 정리)이 동시에 저장하면 UploadFile.version으로 늦은 쪽을 걸러냅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkedUploadService {
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    // S3 멀티파트 제약: 마지막 파트를 제외한 최소 크기, 최대 파트 수
+    private static final long MIN_CHUNK_SIZE = DataSize.ofMegabytes(5).toBytes();
+    private static final int MAX_CHUNKS = 10_000;
+
+    private final StorageService storageService;
+    private final UploadFileRepository uploadFileRepository;
+    private final FileValidationService fileValidationService;
+    private final FileValidatorFactory validatorFactory;
+
+    // 기본 조각 크기 (파일이 커서 조각 수가 10,000개를 넘으면 자동으로 늘어남)
+    @Value("${app.upload.chunked.chunk-size:8MB}")
+    private DataSize chunkSize;
+
+    // 마지막 조각 수신 후 세션을 유지하는 시간
+    @Value("${app.upload.chunked.session-ttl:24h}")
+    private Duration sessionTtl;
+
+    /**
+     * 조각 업로드 세션을 시작합니다.
+     *
+     * @param fileName 원본 파일명 (지원하지 않는 형식이면 거절)
+     * @param fileSize 전체 파일 크기
+     * @param contentType 파일 MIME 타입 (없으면 application/octet-stream)
+     * @return UPLOADING 상태의 UploadFile (조각 크기/수 포함)
+     */
+    public UploadFile initiate(String fileName, long fileSize, String contentType) throws IOException {
+        // 1. 지원하지 않는 형식은 세션 생성 전에 거절
+        validatorFactory.getValidator(fileName);
+
+        // 2. 조각 크기와 수 결정
+        long resolvedChunkSize = Math.max(Math.max(chunkSize.toBytes(), MIN_CHUNK_SIZE), Math.ceilDiv(fileSize, MAX_CHUNKS));
+        int totalChunks = (int) Math.ceilDiv(fileSize, resolvedChunkSize);
+
+        // 3. 스토리지 멀티파트 업로드 시작 후 세션 정보와 함께 메타데이터 저장
+        String storageKey = FileUploadService.createStorageKey(fileName);
+        String multipartUploadId = storageService.createMultipartUpload(
+                storageKey,
+                StringUtils.hasText(contentType) ? contentType : DEFAULT_CONTENT_TYPE
+        );
+
+        UploadFile uploadFile = UploadFile.builder()
+                .originalFileName(fileName)
+                .storagePath(storageKey)
+                .build();
+        uploadFile.startChunkedUpload(multipartUploadId, fileSize, resolvedChunkSize, totalChunks);
+        return uploadFileRepository.save(uploadFile);
+    }
+
+    /**
+     * 조각 하나를 저장합니다. 조각은 1번부터 순서대로 받습니다.
+     * 이미 확인된 번호의 조각은 응답이 유실되어 다시 보낸 것으로 보고 저장하지 않고 현재 상태를 돌려줍니다.
+     *
+     * @param fileId 세션의 파일 ID
+     * @param chunkNumber 조각 번호 (1부터)
+     * @param content 조각 내용
+     * @param contentLength 요청 본문 크기 (조각의 기대 크기와 같아야 함)
+     * @return 진행 상태가 반영된 UploadFile
+     */
+    public UploadFile uploadChunk(Long fileId, int chunkNumber, InputStream content, long contentLength) throws IOException {
+        UploadFile uploadFile = findSession(fileId);
+
+        if (chunkNumber < 1 || chunkNumber > uploadFile.getTotalChunks()) {
+            throw new IllegalArgumentException("유효하지 않은 조각 번호입니다. chunkNumber=" + chunkNumber
+                    + ", totalChunks=" + uploadFile.getTotalChunks());
+        }
+        if (chunkNumber <= uploadFile.getUploadedChunks()) {
+            return uploadFile;
+        }
+        int nextChunk = uploadFile.getUploadedChunks() + 1;
+        if (chunkNumber != nextChunk) {
+            throw new IllegalArgumentException("이전 조각이 아직 업로드되지 않았습니다. nextChunk=" + nextChunk);
+        }
+
+        long expectedSize = expectedChunkSize(uploadFile, chunkNumber);
+        if (contentLength != expectedSize) {
+            throw new IllegalArgumentException("조각 크기가 올바르지 않습니다. expected=" + expectedSize + ", actual=" + contentLength);
+        }
+
+        // 저장이 끝난 뒤에만 확인하므로, 전송 중 끊긴 조각은 같은 번호로 다시 보내면 파트를 덮어씀
+        storageService.uploadMultipartPart(
+                uploadFile.getStoragePath(),
+                uploadFile.getMultipartUploadId(),
+                chunkNumber,
+                content,
+                contentLength
+        );
+
+        uploadFile.acknowledgeChunk(chunkNumber);
+        try {
+            return uploadFileRepository.save(uploadFile);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // 같은 조각을 동시에 다시 보낸 요청이 먼저 확인했으면 그 상태를 돌려줌 (세션이 끝났으면 findSession에서 예외)
+            UploadFile current = findSession(fileId);
+            if (current.getUploadedChunks() >= chunkNumber) {
+                return current;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 조각 업로드 진행 상태를 조회합니다. (재개 시 nextChunk 확인용)
+     */
+    public UploadFile getSession(Long fileId) {
+        UploadFile uploadFile = uploadFileRepository.findById(fileId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 파일을 찾을 수 없습니다. fileId=" + fileId));
+        if (uploadFile.getTotalChunks() == null) {
+            throw new IllegalArgumentException("조각 업로드 세션이 아닙니다. fileId=" + fileId);
+        }
+        return uploadFile;
+    }
+
+    /**
+     * 모든 조각을 하나의 객체로 합치고 비동기 검증을 시작합니다.
+     *
+     * @param fileId 세션의 파일 ID
+     * @return 검증이 시작된 UploadFile
+     */
+    public UploadFile complete(Long fileId) throws IOException {
+        UploadFile uploadFile = findSession(fileId);
+
+        if (uploadFile.getUploadedChunks() < uploadFile.getTotalChunks()) {
+            throw new IllegalArgumentException("모든 조각이 업로드되지 않았습니다. nextChunk=" + (uploadFile.getUploadedChunks() + 1));
+        }
+
+        // 1. 파트를 합쳐 하나의 객체로 완성 (실패 시 세션을 유지하므로 다시 완료 요청 가능)
+        storageService.completeMultipartUpload(uploadFile.getStoragePath(), uploadFile.getMultipartUploadId());
+        uploadFile.finishChunkedUpload();
+        try {
+            uploadFileRepository.save(uploadFile);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // 동시에 들어온 다른 완료(또는 정리) 요청이 먼저 세션을 끝냄: 검증은 그 요청이 시작
+            log.info("Upload session was finished by another request. fileId={}", fileId);
+            return getSession(fileId);
+        }
+
+        // 2. 스토리지에서 읽어 검증 (큐가 가득 차면 FAILED 또는 대기)
+        fileValidationService.validateFile(uploadFile.getId());
+
+        return uploadFileRepository.findById(fileId).orElse(uploadFile);
+    }
+
+    /**
+     * 마지막 조각 수신 후 session-ttl이 지난 세션을 취소합니다. 저장된 파트는 스토리지에서 삭제됩니다.
+     * 세션 종료를 먼저 저장하므로, 그 사이 조각이 도착해 세션이 이어진 경우에는 파트를 지우지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${app.upload.chunked.cleanup-interval:PT1H}")
+    public void cleanupAbandonedSessions() {
+        LocalDateTime threshold = LocalDateTime.now().minus(sessionTtl);
+        for (UploadFile uploadFile : uploadFileRepository
+                .findByStatusAndMultipartUploadIdIsNotNullAndLastChunkAtBefore(FileStatus.UPLOADING, threshold)) {
+            String multipartUploadId = uploadFile.getMultipartUploadId();
+            uploadFile.finishChunkedUpload();
+            try {
+                fileValidationService.fail(uploadFile, "Upload session expired. uploadedChunks="
+                        + uploadFile.getUploadedChunks() + "/" + uploadFile.getTotalChunks());
+            } catch (ObjectOptimisticLockingFailureException e) {
+                log.info("Upload session changed during cleanup. Skip. fileId={}", uploadFile.getId());
+                continue;
+            }
+
+            try {
+                storageService.abortMultipartUpload(uploadFile.getStoragePath(), multipartUploadId);
+            } catch (IOException e) {
+                // 세션은 그대로 종료 (남은 파트는 버킷 수명 주기 규칙 AbortIncompleteMultipartUpload로 정리)
+                log.warn("Failed to abort abandoned upload session. fileId={}", uploadFile.getId(), e);
+            }
+            log.info("Abandoned upload session cleaned up. fileId={}", uploadFile.getId());
+        }
+    }
+
+    private UploadFile findSession(Long fileId) {
+        UploadFile uploadFile = getSession(fileId);
+        if (uploadFile.getStatus() != FileStatus.UPLOADING || !uploadFile.isChunkedUploadInProgress()) {
+            throw new IllegalArgumentException("진행 중인 조각 업로드 세션이 아닙니다. fileId=" + fileId);
+        }
+        return uploadFile;
+    }
+
+    // 마지막 조각만 나머지 크기
+    private long expectedChunkSize(UploadFile uploadFile, int chunkNumber) {
+        if (chunkNumber < uploadFile.getTotalChunks()) {
+            return uploadFile.getChunkSize();
+        }
+        return uploadFile.getFileSize() - uploadFile.getChunkSize() * (uploadFile.getTotalChunks() - 1);
+    }
+}
@@ -0,0 +1,504 @@
+package com.example.coupon_admin.service;
+
+import com.example.coupon_admin.domain.CouponIssuance;
+import com.example.coupon_admin.domain.FileStatus;
+import com.example.coupon_admin.domain.IssuancePartition;
+import com.example.coupon_admin.domain.IssuanceStatus;
+import com.example.coupon_admin.domain.UploadFile;
+import com.example.coupon_admin.global.async.ThreadFactories;
+import com.example.coupon_admin.global.config.AsyncConfig;
+import com.example.coupon_admin.repository.CouponIssuanceRepository;
+import com.example.coupon_admin.repository.IssuancePartitionRepository;
+import com.example.coupon_admin.repository.UploadFileRepository;
+import com.example.coupon_admin.storage.StorageService;
+import com.example.coupon_admin.validator.CustomerIdSink;
+import com.example.coupon_admin.validator.FileValidatorFactory;
+import com.example.coupon_admin.validator.FileValidatorStrategy;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 검증을 통과한 업로드 파일의 고객에게 쿠폰을 일괄 발급합니다.
+ *
+ * 1. 발급 작업을 만들고 customer_id 해시 기준으로 partitions개의 파티션으로 나눔
+ * 2. 작업자 하나가 스토리지에서 파일을 한 번만 스트리밍으로 읽어, 각 행(행 번호, customer_id)을
+ *    남은 파티션별 임시 파일로 나눔
+ * 3. 파티션마다 작업자 스레드가 자기 임시 파일만 읽어 PostgreSQL COPY로 issued_coupon에 기록
+ *    (파일 안의 중복 customer_id는 비트맵으로 걸러 한 번만 발급)
+ * 4. batch-size건마다 COPY를 끝내고, 같은 트랜잭션에서 파티션 체크포인트(마지막 행 번호, 발급 수)를 갱신한 뒤 커밋
+ * 5. 중단된 파티션은 체크포인트 행까지 건너뛰고 이어서 발급 (같은 고객에게 두 번 커밋되지 않음)
+ *
+ * 같은 customer_id는 항상 같은 파티션에 속하므로 파티션 간 조율 없이 중복을 걸러낼 수 있습니다.
+ * 파일 다운로드와 파싱은 실행(시작/재개)마다 한 번이며, 파티션은 행당 16바이트인 자기 몫만 읽습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponIssuanceService {
+
+    private static final String COPY_SQL =
+            "COPY issued_coupon (issuance_id, customer_id, row_number) FROM STDIN WITH (FORMAT text)";
+    private static final String CHECKPOINT_SQL =
+            "UPDATE issuance_partition SET checkpoint_row = ?, issued_count = ? WHERE id = ?";
+    // 검증을 통과하여 발급 대상이 될 수 있는 상태
+    private static final List<FileStatus> ISSUABLE_STATUSES =
+            List.of(FileStatus.COMPLETED, FileStatus.INGESTING, FileStatus.INGESTED);
+    // 파티션 임시 파일의 레코드 크기 (행 번호 long + customer_id long)
+    private static final int ROW_RECORD_BYTES = 2 * Long.BYTES;
+    private static final int ROWS_BUFFER_SIZE = 64 * 1024;
+
+    private final StorageService storageService;
+    private final UploadFileRepository uploadFileRepository;
+    private final CouponIssuanceRepository couponIssuanceRepository;
+    private final IssuancePartitionRepository issuancePartitionRepository;
+    private final FileValidatorFactory validatorFactory;
+    private final DataSource dataSource;
+
+    // 발급 작업 하나를 나누는 파티션 수 (작업 생성 시 고정)
+    @Value("${app.issuance.partitions:8}")
+    private int partitionCount;
+
+    // 모든 발급 작업이 공유하는 파티션 작업자 수 (동시에 사용하는 DB 커넥션 수의 상한)
+    @Value("${app.issuance.workers:4}")
+    private int workers;
+
+    // 한 트랜잭션(COPY 한 번)에 커밋할 발급 수
+    @Value("${app.issuance.batch-size:100000}")
+    private int batchSize;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private ExecutorService partitionExecutor;
+
+    @PostConstruct
+    void initPartitionExecutor() {
+        partitionExecutor = Executors.newFixedThreadPool(workers, ThreadFactories.named("issuance-", virtualThreads, false));
+    }
+
+    @PreDestroy
+    void shutdownPartitionExecutor() {
+        // 진행 중인 파티션은 마지막 체크포인트부터 다음 기동 시 재개
+        partitionExecutor.shutdownNow();
+    }
+
+    /**
+     * 발급 작업을 만들고 모든 파티션을 작업자에 제출합니다.
+     *
+     * @param fileId 검증을 통과한(COMPLETED, INGESTING, INGESTED) 업로드 파일 ID
+     * @return RUNNING 상태의 발급 작업
+     */
+    public CouponIssuance startIssuance(Long fileId, String couponCode, String couponName, LocalDateTime expiresAt) {
+        UploadFile uploadFile = uploadFileRepository.findById(fileId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 파일을 찾을 수 없습니다. fileId=" + fileId));
+
+        if (!ISSUABLE_STATUSES.contains(uploadFile.getStatus())) {
+            throw new IllegalArgumentException("검증을 통과한 파일만 발급할 수 있습니다. fileId=" + fileId
+                    + ", status=" + uploadFile.getStatus());
+        }
+
+        CouponIssuance issuance = couponIssuanceRepository.save(CouponIssuance.builder()
+                .uploadFileId(fileId)
+                .couponCode(couponCode)
+                .couponName(couponName)
+                .expiresAt(expiresAt)
+                .partitionCount(partitionCount)
+                .build());
+
+        for (int partitionNumber = 0; partitionNumber < partitionCount; partitionNumber++) {
+            issuancePartitionRepository.save(new IssuancePartition(issuance.getId(), partitionNumber));
+        }
+
+        submitPartitions(issuance, uploadFile);
+        return issuance;
+    }
+
+    /**
+     * 실패한 발급 작업을 다시 시작합니다. 완료된 파티션은 건너뛰고, 나머지는 체크포인트부터 이어서 발급합니다.
+     */
+    public CouponIssuance resume(Long issuanceId) {
+        CouponIssuance issuance = getIssuance(issuanceId);
+        if (issuance.getStatus() != IssuanceStatus.FAILED) {
+            throw new IllegalArgumentException("실패한 발급 작업만 재개할 수 있습니다. issuanceId=" + issuanceId
+                    + ", status=" + issuance.getStatus());
+        }
+
+        UploadFile uploadFile = uploadFileRepository.findById(issuance.getUploadFileId())
+                .orElseThrow(() -> new IllegalArgumentException("해당 파일을 찾을 수 없습니다. fileId=" + issuance.getUploadFileId()));
+
+        issuance.restart();
+        couponIssuanceRepository.save(issuance);
+        submitPartitions(issuance, uploadFile);
+        return issuance;
+    }
+
+    public CouponIssuance getIssuance(Long issuanceId) {
+        return couponIssuanceRepository.findById(issuanceId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 발급 작업을 찾을 수 없습니다. issuanceId=" + issuanceId));
+    }
+
+    public List<IssuancePartition> getPartitions(Long issuanceId) {
+        return issuancePartitionRepository.findByIssuanceIdOrderByPartitionNumberAsc(issuanceId);
+    }
+
+    /**
+     * 서버 재시작 등으로 중단된 발급 작업을 체크포인트부터 다시 시작합니다.
+     */
+    @Async(AsyncConfig.INGESTION_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        for (CouponIssuance issuance : couponIssuanceRepository.findByStatus(IssuanceStatus.RUNNING)) {
+            uploadFileRepository.findById(issuance.getUploadFileId()).ifPresentOrElse(
+                    uploadFile -> {
+                        log.info("Resume issuance. issuanceId={}", issuance.getId());
+                        submitPartitions(issuance, uploadFile);
+                    },
+                    () -> {
+                        issuance.fail("Upload file not found");
+                        couponIssuanceRepository.save(issuance);
+                    });
+        }
+    }
+
+    // 남은 파티션을 모두 PENDING으로 기록한 뒤 파일 분할 작업을 제출 (먼저 끝난 파티션이 작업을 조기에 확정하지 않도록)
+    private void submitPartitions(CouponIssuance issuance, UploadFile uploadFile) {
+        List<IssuancePartition> remaining = getPartitions(issuance.getId()).stream()
+                .filter(partition -> partition.getStatus() != IssuanceStatus.COMPLETED)
+                .toList();
+        if (remaining.isEmpty()) {
+            return;
+        }
+        for (IssuancePartition partition : remaining) {
+            partition.queue();
+            issuancePartitionRepository.save(partition);
+        }
+        partitionExecutor.execute(() -> splitAndRun(issuance, uploadFile, remaining));
+    }
+
+    /**
+     * 파일을 한 번 읽어 남은 파티션별 임시 파일로 나눈 뒤 파티션들을 제출합니다.
+     * 분할에 실패하면 남은 파티션을 모두 실패로 기록합니다. (체크포인트는 그대로이므로 재개 시 이어서 발급)
+     */
+    private void splitAndRun(CouponIssuance issuance, UploadFile uploadFile, List<IssuancePartition> remaining) {
+        PartitionSplitter splitter = new PartitionSplitter(issuance.getPartitionCount());
+        try {
+            for (IssuancePartition partition : remaining) {
+                splitter.open(partition.getPartitionNumber());
+            }
+            FileValidatorStrategy reader = validatorFactory.getValidator(uploadFile.getOriginalFileName());
+            try (InputStream fileStream = storageService.downloadFile(uploadFile.getStoragePath(), uploadFile.getStorageEncoding())) {
+                reader.readCustomerIds(fileStream, splitter);
+            }
+            splitter.close();
+
+        } catch (Exception e) {
+            log.error("Issuance split failed. issuanceId={}", issuance.getId(), e);
+            splitter.discard();
+            for (IssuancePartition partition : remaining) {
+                partition.fail("Issuance error: " + e.getMessage());
+                issuancePartitionRepository.save(partition);
+            }
+            onPartitionFinished(issuance.getId());
+            return;
+        }
+
+        for (IssuancePartition partition : remaining) {
+            Path rows = splitter.fileOf(partition.getPartitionNumber());
+            partitionExecutor.execute(() -> runPartition(issuance, partition, rows));
+        }
+    }
+
+    // 파티션의 임시 파일(행 번호, customer_id 쌍)을 읽어 발급 (성공/실패와 관계없이 임시 파일은 삭제)
+    private void runPartition(CouponIssuance issuance, IssuancePartition partition, Path rows) {
+        partition.start();
+        issuancePartitionRepository.save(partition);
+
+        try {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(rows), ROWS_BUFFER_SIZE));
+                 Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(false);
+                PartitionWriter writer = new PartitionWriter(connection, issuance, partition);
+                try {
+                    for (long remaining = Files.size(rows) / ROW_RECORD_BYTES; remaining > 0; remaining--) {
+                        writer.accept(in.readLong(), in.readLong());
+                    }
+                    writer.finish();
+                } catch (Exception e) {
+                    writer.abort();
+                    throw e;
+                }
+            } finally {
+                deleteQuietly(rows);
+            }
+
+            partition.complete();
+            issuancePartitionRepository.save(partition);
+            log.info("Issuance partition completed. issuanceId={}, partition={}, issued={}",
+                    issuance.getId(), partition.getPartitionNumber(), partition.getIssuedCount());
+
+        } catch (Exception e) {
+            log.error("Issuance partition failed. issuanceId={}, partition={}, checkpoint={}",
+                    issuance.getId(), partition.getPartitionNumber(), partition.getCheckpointRow(), e);
+            partition.fail("Issuance error: " + e.getMessage());
+            issuancePartitionRepository.save(partition);
+        }
+
+        onPartitionFinished(issuance.getId());
+    }
+
+    // 모든 파티션이 끝났으면 작업 상태를 확정 (하나라도 실패하면 FAILED, 체크포인트는 유지)
+    private synchronized void onPartitionFinished(Long issuanceId) {
+        if (issuancePartitionRepository.countByIssuanceIdAndStatus(issuanceId, IssuanceStatus.RUNNING) > 0
+                || issuancePartitionRepository.countByIssuanceIdAndStatus(issuanceId, IssuanceStatus.PENDING) > 0) {
+            return;
+        }
+
+        CouponIssuance issuance = getIssuance(issuanceId);
+        if (issuance.getStatus() != IssuanceStatus.RUNNING) {
+            return;
+        }
+        if (issuancePartitionRepository.countByIssuanceIdAndStatusNot(issuanceId, IssuanceStatus.COMPLETED) > 0) {
+            issuance.fail("One or more partitions failed. Resume to continue from the last checkpoint.");
+        } else {
+            issuance.complete(issuancePartitionRepository.sumIssuedCount(issuanceId));
+            log.info("Issuance completed. issuanceId={}, issued={}", issuanceId, issuance.getIssuedCount());
+        }
+        couponIssuanceRepository.save(issuance);
+    }
+
+    // customer_id → 파티션 번호 (연속된 ID도 고르게 흩어지도록 곱셈 해시)
+    static int partitionOf(long customerId, int partitionCount) {
+        return Math.floorMod(Long.hashCode(customerId * 0x9E3779B97F4A7C15L), partitionCount);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete issuance partition file. path={}", path, e);
+        }
+    }
+
+    /**
+     * 파서가 전달하는 행을 customer_id의 파티션별 임시 파일에 (행 번호, customer_id) 고정 길이 레코드로 기록합니다.
+     * 열지 않은(이미 완료된) 파티션의 행은 버립니다. 파일 안의 행 순서는 원본 순서와 같습니다.
+     */
+    private static final class PartitionSplitter implements CustomerIdSink {
+
+        private final int partitionCount;
+        private final Path[] files;
+        private final DataOutputStream[] outputs;
+
+        private PartitionSplitter(int partitionCount) {
+            this.partitionCount = partitionCount;
+            this.files = new Path[partitionCount];
+            this.outputs = new DataOutputStream[partitionCount];
+        }
+
+        void open(int partitionNumber) throws IOException {
+            files[partitionNumber] = Files.createTempFile("coupon-issuance-", ".rows");
+            outputs[partitionNumber] = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(files[partitionNumber]), ROWS_BUFFER_SIZE));
+        }
+
+        @Override
+        public void accept(long row, long customerId) {
+            DataOutputStream out = outputs[partitionOf(customerId, partitionCount)];
+            if (out == null) {
+                return;
+            }
+            try {
+                out.writeLong(row);
+                out.writeLong(customerId);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        Path fileOf(int partitionNumber) {
+            return files[partitionNumber];
+        }
+
+        void close() throws IOException {
+            for (DataOutputStream out : outputs) {
+                if (out != null) {
+                    out.close();
+                }
+            }
+        }
+
+        // 분할 실패 시 만든 임시 파일을 모두 삭제
+        void discard() {
+            for (int i = 0; i < partitionCount; i++) {
+                if (outputs[i] != null) {
+                    try {
+                        outputs[i].close();
+                    } catch (IOException ignored) {
+                        // 삭제할 파일이므로 무시
+                    }
+                }
+                if (files[i] != null) {
+                    deleteQuietly(files[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * 파티션 임시 파일에서 읽은(이 파티션에 속하는) customer_id를 COPY 텍스트 형식으로 인코딩해 배치 단위로 커밋합니다.
+     * 레코드는 재사용 바이트 버퍼에 직접 숫자를 써서 만들며, 행마다 String을 만들지 않습니다.
+     */
+    private final class PartitionWriter implements CustomerIdSink {
+
+        private static final int BUFFER_SIZE = 64 * 1024;
+        private static final int MAX_RECORD_LENGTH = 3 * 20 + 3; // long 3개 + 구분자
+
+        private final Connection connection;
+        private final CopyManager copyManager;
+        private final IssuancePartition partition;
+        private final long issuanceId;
+        private final int partitionNumber;
+        private final long resumeAfterRow;   // 이전 실행에서 커밋된 마지막 행 번호
+        private final Roaring64Bitmap seen = new Roaring64Bitmap(); // 이 파티션에서 이미 발급(또는 커밋)된 customer_id
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private final byte[] digits = new byte[20];
+        private int position;
+
+        private CopyIn copyIn;
+        private long issued;
+        private int batchRows;
+        private long lastRow;
+
+        private PartitionWriter(Connection connection, CouponIssuance issuance, IssuancePartition partition) throws SQLException {
+            this.connection = connection;
+            this.copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            this.partition = partition;
+            this.issuanceId = issuance.getId();
+            this.partitionNumber = partition.getPartitionNumber();
+            this.resumeAfterRow = partition.getCheckpointRow();
+            this.issued = partition.getIssuedCount();
+        }
+
+        @Override
+        public void accept(long row, long customerId) {
+            lastRow = row;
+            // 체크포인트 이전 행은 이미 커밋됨: 중복 판단을 위해 본 ID로만 기록
+            if (row <= resumeAfterRow) {
+                seen.addLong(customerId);
+                return;
+            }
+            // 같은 파일의 앞 행에서 이미 발급한 고객
+            if (seen.contains(customerId)) {
+                return;
+            }
+            seen.addLong(customerId);
+
+            try {
+                if (copyIn == null) {
+                    copyIn = copyManager.copyIn(COPY_SQL);
+                }
+                if (position + MAX_RECORD_LENGTH > buffer.length) {
+                    flush();
+                }
+                writeLong(issuanceId);
+                buffer[position++] = '\t';
+                writeLong(customerId);
+                buffer[position++] = '\t';
+                writeLong(row);
+                buffer[position++] = '\n';
+
+                if (++batchRows == batchSize) {
+                    commitBatch();
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("COPY failed at row " + row + ": " + e.getMessage(), e);
+            }
+        }
+
+        void finish() throws SQLException {
+            if (batchRows > 0) {
+                commitBatch();
+            }
+        }
+
+        // 진행 중인 COPY를 취소하고 마지막 체크포인트 이후의 변경을 되돌림
+        void abort() {
+            try {
+                if (copyIn != null && copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+                connection.rollback();
+            } catch (SQLException e) {
+                log.warn("Failed to roll back issuance batch. issuanceId={}, partition={}", issuanceId, partitionNumber, e);
+            }
+        }
+
+        // COPY 종료 + 체크포인트 갱신을 한 트랜잭션으로 커밋
+        private void commitBatch() throws SQLException {
+            flush();
+            copyIn.endCopy();
+            copyIn = null;
+
+            long total = issued + batchRows;
+            try (PreparedStatement statement = connection.prepareStatement(CHECKPOINT_SQL)) {
+                statement.setLong(1, lastRow);
+                statement.setLong(2, total);
+                statement.setLong(3, partition.getId());
+                statement.executeUpdate();
+            }
+            connection.commit();
+
+            issued = total;
+            batchRows = 0;
+            partition.recordProgress(lastRow, issued);
+        }
+
+        private void flush() throws SQLException {
+            if (position > 0) {
+                copyIn.writeToCopy(buffer, 0, position);
+                position = 0;
+            }
+        }
+
+        // 음수가 아닌 long을 ASCII 숫자로 기록
+        private void writeLong(long value) {
+            int length = 0;
+            do {
+                digits[length++] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value > 0);
+            while (length > 0) {
+                buffer[position++] = digits[--length];
+            }
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.coupon_admin.service;
+
+import com.example.coupon_admin.domain.FileStatus;
+import com.example.coupon_admin.domain.UploadFile;
+import com.example.coupon_admin.domain.UploadFileChangedEvent;
+import com.example.coupon_admin.global.config.AsyncConfig;
+import com.example.coupon_admin.repository.UploadFileRepository;
+import com.example.coupon_admin.storage.StorageService;
+import com.example.coupon_admin.validator.CustomerIdSink;
+import com.example.coupon_admin.validator.FileValidatorStrategy;
+import com.example.coupon_admin.validator.FileValidatorFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * 검증을 통과한 파일의 customer_id를 PostgreSQL COPY FROM STDIN으로 customer_target 테이블에 대량 적재합니다.
+ *
+ * 1. 스토리지에서 파일을 스트리밍으로 읽어 행마다 "upload_file_id \t row_number \t customer_id" 텍스트 레코드를 만들고
+ * 2. batch-size 행마다 COPY를 끝내고, 같은 트랜잭션에서 upload_file.ingested_rows(체크포인트)를 갱신한 뒤 커밋
+ * 3. 중단된 적재는 체크포인트만큼 앞 행을 건너뛰고 이어서 적재 (같은 행이 두 번 커밋되지 않음)
+ *
+ * 행마다 INSERT를 보내는 대신 COPY 스트림 하나로 보내므로 왕복과 문장 파싱 비용이 없습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CustomerIngestionService {
+
+    private static final String COPY_SQL =
+            "COPY customer_target (upload_file_id, row_number, customer_id) FROM STDIN WITH (FORMAT text)";
+    private static final String CHECKPOINT_SQL =
+            "UPDATE upload_file SET ingested_rows = ?, updated_at = ? WHERE id = ?";
+
+    private final StorageService storageService;
+    private final UploadFileRepository uploadFileRepository;
+    private final FileValidatorFactory validatorFactory;
+    private final DataSource dataSource;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // false면 검증 완료 후 자동 적재를 하지 않음
+    @Value("${app.ingestion.enabled:true}")
+    private boolean enabled;
+
+    // 한 트랜잭션(COPY 한 번)에 커밋할 행 수
+    @Value("${app.ingestion.batch-size:100000}")
+    private int batchSize;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 파일의 customer_id를 대상 테이블에 적재합니다. 이미 일부 적재된 파일은 체크포인트부터 이어서 적재합니다.
+     *
+     * @param fileId COMPLETED 또는 INGESTING 상태의 파일 ID
+     */
+    @Async(AsyncConfig.INGESTION_EXECUTOR)
+    public void ingest(Long fileId) {
+        UploadFile uploadFile = uploadFileRepository.findById(fileId)
+                .orElseThrow(() -> new IllegalArgumentException("File not found"));
+
+        if (uploadFile.getStatus() != FileStatus.COMPLETED && uploadFile.getStatus() != FileStatus.INGESTING) {
+            log.warn("Skip ingestion. fileId={}, status={}", fileId, uploadFile.getStatus());
+            return;
+        }
+
+        uploadFile.startIngestion();
+        uploadFileRepository.save(uploadFile);
+
+        try {
+            FileValidatorStrategy reader = validatorFactory.getValidator(uploadFile.getOriginalFileName());
+
+            try (InputStream fileStream = storageService.downloadFile(uploadFile.getStoragePath(), uploadFile.getStorageEncoding());
+                 Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(false);
+                CopyBatchWriter writer = new CopyBatchWriter(connection, uploadFile);
+                try {
+                    reader.readCustomerIds(fileStream, writer);
+                    writer.finish();
+                } catch (Exception e) {
+                    writer.abort();
+                    throw e;
+                }
+            }
+
+            uploadFile.completeIngestion();
+            uploadFileRepository.save(uploadFile);
+            log.info("Ingestion completed. fileId={}, rows={}", fileId, uploadFile.getIngestedRows());
+
+        } catch (Exception e) {
+            log.error("Ingestion failed. fileId={}, checkpoint={}", fileId, uploadFile.getIngestedRows(), e);
+            uploadFile.recordIngestionFailure("Ingestion error: " + e.getMessage());
+            uploadFileRepository.save(uploadFile);
+        }
+    }
+
+    /**
+     * 서버 재시작 등으로 중단된 적재를 체크포인트부터 다시 시작합니다.
+     * 기동 스레드를 막지 않도록 비동기로 실행하며, 중단된 파일들은 순서대로 적재합니다.
+     */
+    @Async(AsyncConfig.INGESTION_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        if (!enabled) {
+            return;
+        }
+        for (UploadFile uploadFile : uploadFileRepository.findByStatus(FileStatus.INGESTING)) {
+            log.info("Resume ingestion. fileId={}, checkpoint={}", uploadFile.getId(), uploadFile.getIngestedRows());
+            ingest(uploadFile.getId());
+        }
+    }
+
+    /**
+     * 파서가 전달하는 customer_id를 COPY 텍스트 형식으로 인코딩해 배치 단위로 커밋합니다.
+     * 레코드는 재사용 바이트 버퍼에 직접 숫자를 써서 만들며, 행마다 String을 만들지 않습니다.
+     */
+    private final class CopyBatchWriter implements CustomerIdSink {
+
+        private static final int BUFFER_SIZE = 64 * 1024;
+        private static final int MAX_RECORD_LENGTH = 3 * 20 + 3; // long 3개 + 구분자
+
+        private final Connection connection;
+        private final CopyManager copyManager;
+        private final UploadFile uploadFile;
+        private final long fileId;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private final byte[] digits = new byte[20];
+        private int position;
+
+        private CopyIn copyIn;
+        private long toSkip;      // 이전 실행에서 이미 커밋된 행 수
+        private long committed;
+        private int batchRows;
+
+        private CopyBatchWriter(Connection connection, UploadFile uploadFile) throws SQLException {
+            this.connection = connection;
+            this.copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            this.uploadFile = uploadFile;
+            this.fileId = uploadFile.getId();
+            this.committed = uploadFile.getIngestedRows();
+            this.toSkip = committed;
+        }
+
+        @Override
+        public void accept(long row, long customerId) {
+            if (toSkip > 0) {
+                toSkip--;
+                return;
+            }
+            try {
+                if (copyIn == null) {
+                    copyIn = copyManager.copyIn(COPY_SQL);
+                }
+                if (position + MAX_RECORD_LENGTH > buffer.length) {
+                    flush();
+                }
+                writeLong(fileId);
+                buffer[position++] = '\t';
+                writeLong(row);
+                buffer[position++] = '\t';
+                writeLong(customerId);
+                buffer[position++] = '\n';
+
+                if (++batchRows == batchSize) {
+                    commitBatch();
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("COPY failed at row " + row + ": " + e.getMessage(), e);
+            }
+        }
+
+        void finish() throws SQLException {
+            if (batchRows > 0) {
+                commitBatch();
+            }
+        }
+
+        // 진행 중인 COPY를 취소하고 마지막 체크포인트 이후의 변경을 되돌림
+        void abort() {
+            try {
+                if (copyIn != null && copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+                connection.rollback();
+            } catch (SQLException e) {
+                log.warn("Failed to roll back ingestion batch. fileId={}", fileId, e);
+            }
+        }
+
+        // COPY 종료 + 체크포인트 갱신을 한 트랜잭션으로 커밋
+        private void commitBatch() throws SQLException {
+            flush();
+            copyIn.endCopy();
+            copyIn = null;
+
+            long checkpoint = committed + batchRows;
+            try (PreparedStatement statement = connection.prepareStatement(CHECKPOINT_SQL)) {
+                statement.setLong(1, checkpoint);
+                statement.setObject(2, LocalDateTime.now());
+                statement.setLong(3, fileId);
+                statement.executeUpdate();
+            }
+            connection.commit();
+
+            committed = checkpoint;
+            batchRows = 0;
+            uploadFile.recordIngestionProgress(committed);
+
+            // 체크포인트는 JDBC로 갱신되어 엔티티 리스너를 거치지 않으므로 직접 변경 이벤트 발행 (상태 캐시 갱신)
+            eventPublisher.publishEvent(new UploadFileChangedEvent(uploadFile));
+        }
+
+        private void flush() throws SQLException {
+            if (position > 0) {
+                copyIn.writeToCopy(buffer, 0, position);
+                position = 0;
+            }
+        }
+
+        // 음수가 아닌 long을 ASCII 숫자로 기록
+        private void writeLong(long value) {
+            int length = 0;
+            do {
+                digits[length++] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value > 0);
+            while (length > 0) {
+                buffer[position++] = digits[--length];
+            }
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package com.example.coupon_admin.service;
 
 import com.example.coupon_admin.domain.UploadFile;
+import com.example.coupon_admin.domain.UploadFileChangedEvent;
+import com.example.coupon_admin.dto.CacheStatsResponse;
 import com.example.coupon_admin.repository.UploadFileRepository;
 import com.example.coupon_admin.storage.StorageService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
@@ -15,6 +22,7 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class FileDownloadService {
@@ -26,12 +34,52 @@ public class FileDownloadService {
     @Value("${app.s3.presigned-url.expiration-minutes}")
     private long expirationMinutes;
 
+    // 캐시된 URL이 최소한 이만큼은 유효하도록, 만료 시각보다 이만큼 일찍 캐시에서 제거
+    @Value("${app.s3.presigned-url.cache.min-remaining:5m}")
+    private Duration cacheMinRemaining;
+
+    @Value("${app.s3.presigned-url.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    // fileId → 발급된 다운로드 URL 정보 (같은 파일 반복 조회 시 DB 조회와 서명 생략)
+    private Cache<Long, DownloadUrlInfo> urlCache;
+
+    @PostConstruct
+    void initUrlCache() {
+        Duration cacheTtl = Duration.ofMinutes(expirationMinutes).minus(cacheMinRemaining);
+        if (cacheTtl.isNegative() || cacheTtl.isZero()) {
+            // 최소 잔여 시간을 보장할 수 없으면 캐시하지 않음
+            log.warn("Presigned URL cache disabled. expiration={}m, min-remaining={}", expirationMinutes, cacheMinRemaining);
+            cacheTtl = Duration.ofNanos(1);
+        }
+        urlCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+    }
+
     /**
      * 파일 다운로드에 필요한 정보(URL, 파일명, 만료시각)를 담은 객체를 반환합니다.
+     * 같은 파일에 대해 이미 발급한 URL의 남은 유효 시간이 min-remaining 이상이면 캐시된 URL을 그대로 반환합니다.
      * @param fileId 다운로드할 파일의 ID
      * @return DownloadUrlInfo 객체
      */
     public DownloadUrlInfo getPresignedDownloadUrl(Long fileId) {
+        return urlCache.get(fileId, this::createDownloadUrl);
+    }
+
+    public CacheStatsResponse getUrlCacheStats() {
+        return CacheStatsResponse.from(urlCache);
+    }
+
+    // 파일 상태나 경로가 바뀌면 이전에 발급한 URL을 더 이상 재사용하지 않음
+    @EventListener
+    public void onUploadFileChanged(UploadFileChangedEvent event) {
+        urlCache.invalidate(event.getFileId());
+    }
+
+    private DownloadUrlInfo createDownloadUrl(Long fileId) {
         // 1. DB에서 파일 메타데이터 조회
         UploadFile uploadFile = uploadFileRepository.findById(fileId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 파일을 찾을 수 없습니다. fileId=" + fileId));
@@ -0,0 +1,338 @@
+package com.example.coupon_admin.service;
+
+import com.example.coupon_admin.domain.FileStatus;
+import com.example.coupon_admin.domain.UploadFileChangedEvent;
+import com.example.coupon_admin.dto.FileProgressResponse;
+import com.example.coupon_admin.dto.FileStatusResponse;
+import com.example.coupon_admin.global.async.ThreadFactories;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 파일 처리 상태/진행률을 SSE(Server-Sent Events)로 구독자에게 전달합니다.
+ *
+ * - status 이벤트: UploadFile이 저장될 때마다 (UPLOADING → VALIDATING → COMPLETED/FAILED → INGESTING → INGESTED)
+ * - progress 이벤트: 검증 파이프라인이 읽은 바이트 수와 검증한 행 수 (progress-interval 간격으로 제한)
+ *
+ * SseEmitter는 비동기 요청이므로 대기 중인 구독자는 요청 스레드를 점유하지 않습니다.
+ * 구독자마다 크기가 제한된 이벤트 큐를 두고 구독자별 전송 스레드(가상 스레드)가 순서대로 비우므로,
+ * 느린 클라이언트는 자기 큐만 밀리고 검증 스레드나 다른 구독자를 지연시키지 않습니다.
+ * - 큐가 가득 차면 progress/heartbeat는 버리고, status는 대기 중인 progress를 비운 뒤 넣음 (그래도 가득 차면 연결 종료)
+ * - 전송 한 건이 send-timeout을 넘기면 멈춘 연결로 보고 목록에서 제거한 뒤 종료
+ * - 끊어진 연결은 주기적인 heartbeat 전송 실패로 정리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileEventService {
+
+    private static final String STATUS_EVENT = "status";
+    private static final String PROGRESS_EVENT = "progress";
+
+    private final FileStatusService fileStatusService;
+    private final CustomerIngestionService customerIngestionService;
+
+    // 구독 연결 최대 유지 시간 (만료 시 클라이언트 EventSource가 자동 재연결)
+    @Value("${app.sse.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${app.sse.heartbeat-interval:30s}")
+    private Duration heartbeatInterval;
+
+    // 파일별 progress 이벤트 최소 간격
+    @Value("${app.sse.progress-interval:500ms}")
+    private Duration progressInterval;
+
+    // 구독자별로 전송을 기다릴 수 있는 이벤트 수
+    @Value("${app.sse.queue-capacity:16}")
+    private int queueCapacity;
+
+    // 이벤트 한 건 전송이 이 시간을 넘기면 멈춘 연결로 보고 종료
+    @Value("${app.sse.send-timeout:10s}")
+    private Duration sendTimeout;
+
+    // fileId → 구독 중인 연결
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private ExecutorService sender;
+    private ScheduledExecutorService heartbeat;
+
+    @PostConstruct
+    void init() {
+        // 전송 중인 스레드는 클라이언트 소켓 쓰기에서 블로킹될 수 있으므로 구독자마다 가상 스레드로 실행
+        sender = Executors.newThreadPerTaskExecutor(ThreadFactories.named("sse-send-", true, true));
+        heartbeat = Executors.newSingleThreadScheduledExecutor(ThreadFactories.named("sse-heartbeat-", false, true));
+        long intervalMillis = heartbeatInterval.toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        long checkMillis = Math.max(sendTimeout.toMillis() / 2, 1);
+        heartbeat.scheduleAtFixedRate(this::closeStalled, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        sender.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    /**
+     * 파일의 상태 이벤트 스트림을 구독합니다. 현재 상태를 첫 이벤트로 보내며, 최종 상태이면 바로 종료합니다.
+     *
+     * @param fileId 구독할 파일 ID
+     * @return SSE 연결
+     */
+    public SseEmitter subscribe(Long fileId) {
+        FileStatusResponse current = fileStatusService.getStatus(fileId);
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(fileId, emitter, queueCapacity);
+        subscribers.computeIfAbsent(fileId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        subscriber.enqueue(statusEvent(current));
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * 검증 파이프라인에 연결할 진행률 리스너를 만듭니다. (바이트 수와 행 수의 증분을 누적)
+     * 여러 스레드(병렬 CSV 검증 구간)에서 동시에 호출해도 안전합니다.
+     *
+     * @param fileId 파일 ID
+     * @param totalBytes 전체 크기 (모르면 null)
+     */
+    public ValidationProgress progressListener(Long fileId, Long totalBytes) {
+        long intervalNanos = progressInterval.toNanos();
+        AtomicLong bytesRead = new AtomicLong();
+        AtomicLong rowsValidated = new AtomicLong();
+        AtomicLong lastSentAt = new AtomicLong(System.nanoTime());
+        return new ValidationProgress() {
+            @Override
+            public void addBytes(long bytes) {
+                bytesRead.addAndGet(bytes);
+                publish();
+            }
+
+            @Override
+            public void addRows(long rows) {
+                if (rows > 0) {
+                    rowsValidated.addAndGet(rows);
+                    publish();
+                }
+            }
+
+            private void publish() {
+                if (!subscribers.containsKey(fileId)) {
+                    return;
+                }
+                long now = System.nanoTime();
+                long last = lastSentAt.get();
+                if (now - last >= intervalNanos && lastSentAt.compareAndSet(last, now)) {
+                    FileProgressResponse progress = new FileProgressResponse(fileId, bytesRead.get(), rowsValidated.get(), totalBytes);
+                    broadcast(fileId, new Event(PROGRESS_EVENT, progress, true, false));
+                }
+            }
+        };
+    }
+
+    @EventListener
+    public void onUploadFileChanged(UploadFileChangedEvent event) {
+        Long fileId = event.getFileId();
+        if (!subscribers.containsKey(fileId)) {
+            return;
+        }
+        broadcast(fileId, statusEvent(event.getStatus()));
+    }
+
+    private Event statusEvent(FileStatusResponse status) {
+        return new Event(STATUS_EVENT, status, false, isFinal(status.getStatus()));
+    }
+
+    private void broadcast(Long fileId, Event event) {
+        Set<Subscriber> set = subscribers.get(fileId);
+        if (set != null) {
+            set.forEach(subscriber -> subscriber.enqueue(event));
+        }
+    }
+
+    private void sendHeartbeats() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.enqueue(Event.HEARTBEAT)));
+    }
+
+    private void closeStalled() {
+        long limitNanos = sendTimeout.toNanos();
+        long now = System.nanoTime();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> {
+            long startedAt = subscriber.sendStartedAt;
+            if (startedAt != 0 && now - startedAt > limitNanos) {
+                log.warn("SSE send stalled for over {}, closing subscriber. fileId={}", sendTimeout, subscriber.fileId);
+                subscriber.abort();
+            }
+        }));
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.fileId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    // 더 이상 상태가 바뀌지 않는 상태 (적재를 사용하지 않으면 COMPLETED도 최종)
+    private boolean isFinal(String status) {
+        FileStatus fileStatus = FileStatus.valueOf(status);
+        return fileStatus == FileStatus.FAILED
+                || fileStatus == FileStatus.INGESTED
+                || (fileStatus == FileStatus.COMPLETED && !customerIngestionService.isEnabled());
+    }
+
+    /**
+     * 전송할 이벤트. (SseEventBuilder는 전송할 때 내용이 바뀌므로 구독자마다 전송 시점에 만듦)
+     *
+     * @param droppable 큐가 가득 찼을 때 버려도 되는 이벤트 (progress, heartbeat)
+     * @param last 전송 후 연결을 종료할 이벤트 (최종 상태)
+     */
+    private record Event(String name, Object data, boolean droppable, boolean last) {
+
+        private static final Event HEARTBEAT = new Event(null, null, true, false);
+
+        SseEmitter.SseEventBuilder toSse() {
+            return name == null ? SseEmitter.event().comment("heartbeat") : SseEmitter.event().name(name).data(data);
+        }
+    }
+
+    /**
+     * 구독 연결 하나. 이벤트는 큐에 넣기만 하고, 전송은 한 번에 하나의 전송 스레드가 큐를 비우며 순서대로 수행합니다.
+     */
+    private final class Subscriber {
+
+        private final Long fileId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Event> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile long sendStartedAt; // 전송 중이면 시작 시각(nanoTime), 아니면 0
+        private volatile Thread sendingThread;
+
+        private Subscriber(Long fileId, SseEmitter emitter, int capacity) {
+            this.fileId = fileId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        void enqueue(Event event) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                if (event.droppable()) {
+                    return;
+                }
+                queue.removeIf(Event::droppable);
+                if (!queue.offer(event)) {
+                    // 상태 이벤트만으로 큐가 가득 참: 클라이언트가 읽지 않는 연결
+                    abort();
+                    return;
+                }
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            sendingThread = Thread.currentThread();
+            try {
+                Event event;
+                while (!closed && (event = queue.poll()) != null) {
+                    if (!send(event)) {
+                        return;
+                    }
+                }
+            } finally {
+                sendingThread = null;
+                draining.set(false);
+            }
+            // 큐를 비운 뒤 draining을 내리기 전에 들어온 이벤트
+            if (!closed && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private boolean send(Event event) {
+            sendStartedAt = System.nanoTime();
+            try {
+                emitter.send(event.toSse());
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊었거나 이미 완료된 연결
+                close();
+                return false;
+            } finally {
+                sendStartedAt = 0;
+            }
+            if (event.last()) {
+                close();
+                emitter.complete();
+                return false;
+            }
+            return true;
+        }
+
+        void close() {
+            closed = true;
+            queue.clear();
+            remove(this);
+        }
+
+        // 멈춘 연결: 목록에서 제거하고, 블로킹된 전송 스레드를 깨운 뒤 별도 스레드에서 연결 종료
+        // (complete는 진행 중인 send와 같은 잠금을 기다릴 수 있으므로 감시 스레드에서 호출하지 않음)
+        void abort() {
+            close();
+            Thread thread = sendingThread;
+            if (thread != null) {
+                thread.interrupt();
+            }
+            try {
+                sender.execute(emitter::complete);
+            } catch (RejectedExecutionException ignored) {
+                // 종료 중 (shutdown에서 complete)
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.coupon_admin.service;
+
+import com.example.coupon_admin.domain.FileStatus;
+import com.example.coupon_admin.dto.FileListResponse;
+import com.example.coupon_admin.dto.FileSummaryResponse;
+import com.example.coupon_admin.repository.UploadFileRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 업로드 파일 목록 조회 서비스 (keyset 페이지네이션).
+ *
+ * 최신순(createdAt, id 내림차순)으로 정렬하며, 다음 페이지는 OFFSET 대신 이전 페이지 마지막 행의 (createdAt, id)부터 탐색합니다.
+ * 인덱스에서 커서 위치를 바로 찾아 size개만 읽으므로, 레코드 수나 페이지 깊이와 무관하게 조회 비용이 일정합니다.
+ * 목록 행은 엔티티가 아닌 필요한 컬럼만 담은 {@link FileSummaryResponse}로 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FileListService {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    // 기간 조건이 없을 때의 경계 (PostgreSQL timestamp 범위 안의 값)
+    private static final LocalDateTime MIN_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final String CURSOR_SEPARATOR = "|";
+
+    private final UploadFileRepository uploadFileRepository;
+
+    /**
+     * @param status 상태 조건 (없으면 전체)
+     * @param from 생성 시각 하한 (포함, 없으면 제한 없음)
+     * @param to 생성 시각 상한 (제외, 없으면 제한 없음)
+     * @param cursor 이전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size 페이지 크기 (최대 {@value #MAX_PAGE_SIZE})
+     * @return 파일 목록과 다음 페이지 커서
+     */
+    public FileListResponse listFiles(FileStatus status, LocalDateTime from, LocalDateTime to, String cursor, Integer size) {
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        LocalDateTime lowerBound = from != null ? from : MIN_TIME;
+        LocalDateTime upperBound = to != null ? to : MAX_TIME;
+        if (!lowerBound.isBefore(upperBound)) {
+            throw new IllegalArgumentException("from은 to보다 이전이어야 합니다.");
+        }
+
+        // 첫 페이지는 (to, Long.MIN_VALUE)보다 작은 행 = createdAt < to
+        LocalDateTime cursorAt = upperBound;
+        long cursorId = Long.MIN_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            Cursor decoded = Cursor.decode(cursor);
+            // 커서가 기간 상한보다 뒤면 상한부터 (이전 요청과 기간을 바꾼 경우)
+            if (decoded.createdAt().isBefore(upperBound)) {
+                cursorAt = decoded.createdAt();
+                cursorId = decoded.id();
+            }
+        }
+
+        // 한 행 더 읽어 다음 페이지 존재 여부 확인 (별도 count 쿼리 없음)
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<FileSummaryResponse> rows = status != null
+                ? uploadFileRepository.findSummariesByStatus(status, lowerBound, cursorAt, cursorId, limit)
+                : uploadFileRepository.findSummaries(lowerBound, cursorAt, cursorId, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<FileSummaryResponse> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            FileSummaryResponse last = page.get(page.size() - 1);
+            nextCursor = new Cursor(last.getCreatedAt(), last.getFileId()).encode();
+        }
+
+        return FileListResponse.builder()
+                .files(page)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 마지막으로 반환한 행의 정렬 키. 클라이언트에는 불투명한 문자열(base64url)로 전달합니다.
+     */
+    private record Cursor(LocalDateTime createdAt, long id) {
+
+        String encode() {
+            String raw = createdAt + CURSOR_SEPARATOR + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf(CURSOR_SEPARATOR);
+                if (separator < 0) {
+                    throw new IllegalArgumentException("유효하지 않은 cursor 입니다.");
+                }
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+            } catch (DateTimeParseException | IllegalArgumentException e) {
+                throw new IllegalArgumentException("유효하지 않은 cursor 입니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.coupon_admin.service;
+
+import com.example.coupon_admin.domain.UploadFile;
+import com.example.coupon_admin.domain.UploadFileChangedEvent;
+import com.example.coupon_admin.dto.CacheStatsResponse;
+import com.example.coupon_admin.dto.FileStatusResponse;
+import com.example.coupon_admin.repository.UploadFileRepository;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 업로드 파일 상태 조회 서비스 (read-through + write-through 캐시).
+ *
+ * - 조회: 캐시에 없을 때만 DB에서 읽어 캐시에 저장 (일괄 조회는 없는 ID만 한 번의 쿼리로 조회)
+ * - 갱신: 검증/적재 등으로 UploadFile이 저장될 때마다 {@link UploadFileChangedEvent}로 최신 상태를 캐시에 기록
+ *
+ * 상태가 바뀌지 않은 파일을 여러 관리자 화면이 자주 폴링해도 DB까지 가지 않습니다.
+ * TTL은 이벤트를 거치지 않은 외부 변경에 대한 안전장치입니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FileStatusService {
+
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private final UploadFileRepository uploadFileRepository;
+
+    @Value("${app.file-status.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    @Value("${app.file-status.cache.ttl:10m}")
+    private Duration cacheTtl;
+
+    private LoadingCache<Long, FileStatusResponse> statusCache;
+
+    @PostConstruct
+    void initStatusCache() {
+        statusCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public FileStatusResponse load(Long fileId) {
+                        return uploadFileRepository.findById(fileId)
+                                .map(FileStatusResponse::fromEntity)
+                                .orElse(null);
+                    }
+
+                    @Override
+                    public Map<Long, FileStatusResponse> loadAll(Set<? extends Long> fileIds) {
+                        Map<Long, FileStatusResponse> loaded = new HashMap<>();
+                        for (UploadFile uploadFile : uploadFileRepository.findAllById(fileIds)) {
+                            loaded.put(uploadFile.getId(), FileStatusResponse.fromEntity(uploadFile));
+                        }
+                        return loaded;
+                    }
+                });
+    }
+
+    /**
+     * @param fileId 조회할 파일 ID
+     * @return 파일 상태
+     */
+    public FileStatusResponse getStatus(Long fileId) {
+        FileStatusResponse status = statusCache.get(fileId);
+        if (status == null) {
+            throw new IllegalArgumentException("해당 파일을 찾을 수 없습니다. fileId=" + fileId);
+        }
+        return status;
+    }
+
+    /**
+     * 여러 파일의 상태를 한 번에 조회합니다. 존재하지 않는 ID는 결과에서 제외됩니다.
+     *
+     * @param fileIds 조회할 파일 ID 목록 (최대 {@value #MAX_BATCH_SIZE}개)
+     * @return 요청 순서대로 정렬된 파일 상태 목록
+     */
+    public List<FileStatusResponse> getStatuses(Collection<Long> fileIds) {
+        if (fileIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 파일은 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+
+        Map<Long, FileStatusResponse> statuses = statusCache.getAll(fileIds);
+        List<FileStatusResponse> result = new ArrayList<>(statuses.size());
+        for (Long fileId : fileIds) {
+            FileStatusResponse status = statuses.get(fileId);
+            if (status != null) {
+                result.add(status);
+            }
+        }
+        return result;
+    }
+
+    public CacheStatsResponse getCacheStats() {
+        return CacheStatsResponse.from(statusCache);
+    }
+
+    // 파일이 저장될 때마다 최신 상태로 덮어씀 (write-through)
+    @EventListener
+    public void onUploadFileChanged(UploadFileChangedEvent event) {
+        statusCache.put(event.getFileId(), event.getStatus());
+    }
+}
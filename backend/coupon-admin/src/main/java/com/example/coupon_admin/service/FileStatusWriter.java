@@ -0,0 +1,304 @@
+package com.example.coupon_admin.service;
+
+import com.example.coupon_admin.domain.UploadFile;
+import com.example.coupon_admin.domain.UploadFileChangedEvent;
+import com.example.coupon_admin.dto.FileStatusResponse;
+import com.example.coupon_admin.global.async.ThreadFactories;
+import com.example.coupon_admin.repository.UploadFileRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검증 작업자가 만드는 UploadFile 상태 전이(VALIDATING → COMPLETED/FAILED)를 모아 JDBC 배치 UPDATE로 기록합니다. (write-behind)
+ *
+ * - 기록 요청은 파일 ID별로 마지막 상태만 남기므로, 한 주기 안에 시작과 종료가 모두 일어난 작은 파일은 UPDATE 한 번으로 끝남
+ * - flush-interval마다, 또는 대기 중인 파일이 batch-size개가 되면 한 트랜잭션의 배치 하나로 반영
+ *   (파일마다 JPA merge의 SELECT + UPDATE 두 번 왕복하던 것을 배치당 한 번 왕복으로 줄임)
+ * - 반영된 뒤에 기록 시점의 값으로 {@link UploadFileChangedEvent}를 발행하고 afterFlush 작업(적재 시작 등)을 실행하므로,
+ *   이벤트를 받거나 DB에서 다시 읽는 쪽은 항상 반영된 상태를 봄
+ * - 반영에 실패한 기록은 다음 주기에 다시 시도하며, 종료 시에는 남은 기록을 모두 반영한 뒤 종료
+ * - 종료 후(다음 주기가 없음)에는 배치 반영이 실패하면 JPA로 하나씩 저장
+ *
+ * 종료 순서: ValidationExecutor가 이 빈에 @DependsOn하므로 검증 실행기가 먼저 남은 검증을 마치고,
+ * 이 빈은 생성자로 주입받은 DataSource보다 먼저 종료되어 마지막 반영에 커넥션을 쓸 수 있습니다.
+ *
+ * app.validation.status-writer.enabled=false이면 기록 요청마다 바로 저장합니다. (기존 방식)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileStatusWriter {
+
+    private static final String UPDATE_SQL = "UPDATE upload_file SET status = ?, failure_reason = ?, row_count = ?, "
+            + "duplicate_count = ?, duplicates_truncated = ?, duplicate_samples = ?, content_hash = ?, updated_at = ? WHERE id = ?";
+
+    private final UploadFileRepository uploadFileRepository;
+    private final DataSource dataSource;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.validation.status-writer.enabled:true}")
+    private boolean enabled;
+
+    // 모아 둔 상태를 반영하는 최대 간격 (상태 조회/이벤트가 늦어질 수 있는 최대 시간)
+    @Value("${app.validation.status-writer.flush-interval:100ms}")
+    private Duration flushInterval;
+
+    // 대기 중인 파일이 이만큼 모이면 주기를 기다리지 않고 반영 (배치 하나의 최대 크기이기도 함)
+    @Value("${app.validation.status-writer.batch-size:500}")
+    private int batchSize;
+
+    // fileId → 반영 대기 중인 마지막 상태
+    private final ConcurrentHashMap<Long, PendingWrite> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicLong writeCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+
+    private ScheduledExecutorService flusher;
+    private volatile boolean closed;
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(ThreadFactories.named("status-writer-", false, true));
+        long intervalMillis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        // 이후 기록 요청은 호출 스레드에서 바로 반영하고, 예약된 반영이 끝난 뒤 남은 기록을 모두 반영
+        closed = true;
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+        flushOrSave();
+    }
+
+    /**
+     * 파일의 현재 상태(상태, 실패 사유, 검증 통계, 내용 해시)를 기록합니다.
+     * 호출 시점의 값을 복사해 두므로, 이후 엔티티가 바뀌어도 이번 기록에는 영향이 없습니다.
+     *
+     * @param uploadFile 저장된(ID가 있는) 파일
+     * @param afterFlush DB에 반영된 뒤 실행할 작업 (없으면 null)
+     */
+    public void write(UploadFile uploadFile, Runnable afterFlush) {
+        writeCount.incrementAndGet();
+        if (!enabled) {
+            uploadFileRepository.save(uploadFile);
+            if (afterFlush != null) {
+                afterFlush.run();
+            }
+            return;
+        }
+
+        pending.merge(uploadFile.getId(), new PendingWrite(uploadFile, afterFlush), PendingWrite::supersede);
+
+        if (closed) {
+            flushOrSave();
+        } else if (pending.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            flusher.execute(this::flushQuietly);
+        }
+    }
+
+    public void write(UploadFile uploadFile) {
+        write(uploadFile, null);
+    }
+
+    // 기록 요청 수
+    public long getWriteCount() {
+        return writeCount.get();
+    }
+
+    // 실행한 배치 UPDATE 수 (기록 요청 수와 비교하면 파일당 DB 왕복 수를 알 수 있음)
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    // 반영 대기 중인 파일 수
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private void flushQuietly() {
+        flushScheduled.set(false);
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Status flush failed unexpectedly.", e);
+        }
+    }
+
+    // 예약 스레드와 종료 중 호출 스레드가 동시에 반영하지 않도록 직렬화 (같은 파일의 기록 순서 유지)
+    private synchronized void flush() {
+        while (!pending.isEmpty()) {
+            List<PendingWrite> batch = drain();
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                executeBatch(batch);
+            } catch (SQLException e) {
+                log.warn("Status flush failed. Retry on next flush. size={}", batch.size(), e);
+                // 그 사이 들어온 더 최신 기록이 있으면 그것을 유지
+                for (PendingWrite write : batch) {
+                    pending.merge(write.fileId, write, (newer, retried) -> retried.supersede(newer));
+                }
+                return;
+            }
+            for (PendingWrite write : batch) {
+                eventPublisher.publishEvent(new UploadFileChangedEvent(write.fileId, write.snapshot));
+                write.runAfterFlush();
+            }
+        }
+    }
+
+    // 종료 후 반영: 배치 반영이 실패해 남은 기록은 다시 시도할 주기가 없으므로 JPA로 하나씩 저장
+    private synchronized void flushOrSave() {
+        flush();
+        for (Long fileId : pending.keySet()) {
+            PendingWrite write = pending.remove(fileId);
+            if (write == null) {
+                continue;
+            }
+            try {
+                uploadFileRepository.save(write.uploadFile);
+                write.runAfterFlush();
+            } catch (RuntimeException e) {
+                log.error("Status write was not persisted on shutdown. fileId={}, status={}", fileId, write.status, e);
+            }
+        }
+    }
+
+    private List<PendingWrite> drain() {
+        List<PendingWrite> batch = new ArrayList<>(Math.min(pending.size(), batchSize));
+        for (Long fileId : pending.keySet()) {
+            PendingWrite write = pending.remove(fileId);
+            if (write != null) {
+                batch.add(write);
+            }
+            if (batch.size() >= batchSize) {
+                break;
+            }
+        }
+        return batch;
+    }
+
+    private void executeBatch(List<PendingWrite> batch) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_SQL)) {
+                for (PendingWrite write : batch) {
+                    write.bind(statement);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+                flushCount.incrementAndGet();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 기록 요청 시점의 컬럼 값과 반영 후 실행할 작업.
+     * 엔티티는 종료 후 배치 반영이 실패했을 때의 JPA 저장에만 사용합니다.
+     */
+    private static final class PendingWrite {
+        private final Long fileId;
+        private final UploadFile uploadFile;
+        private final FileStatusResponse snapshot; // 반영 후 발행할 이벤트의 상태
+        private final String status;
+        private final String failureReason;
+        private final Long rowCount;
+        private final Long duplicateCount;
+        private final Boolean duplicatesTruncated;
+        private final String duplicateSamples;
+        private final String contentHash;
+        private final LocalDateTime updatedAt;
+        private final List<Runnable> afterFlush = new ArrayList<>(1);
+
+        private PendingWrite(UploadFile uploadFile, Runnable afterFlush) {
+            this.fileId = uploadFile.getId();
+            this.uploadFile = uploadFile;
+            this.status = uploadFile.getStatus().name();
+            this.failureReason = uploadFile.getFailureReason();
+            this.rowCount = uploadFile.getRowCount();
+            this.duplicateCount = uploadFile.getDuplicateCount();
+            this.duplicatesTruncated = uploadFile.getDuplicatesTruncated();
+            this.duplicateSamples = uploadFile.getDuplicateSamples();
+            this.contentHash = uploadFile.getContentHash();
+            this.updatedAt = LocalDateTime.now();
+            this.snapshot = FileStatusResponse.fromEntity(uploadFile);
+            if (afterFlush != null) {
+                this.afterFlush.add(afterFlush);
+            }
+        }
+
+        // 같은 파일의 이전 기록을 대체하되, 이전 기록의 afterFlush 작업은 먼저 실행되도록 넘겨받음
+        private PendingWrite supersede(PendingWrite newer) {
+            newer.afterFlush.addAll(0, this.afterFlush);
+            return newer;
+        }
+
+        private void bind(PreparedStatement statement) throws SQLException {
+            statement.setString(1, status);
+            statement.setString(2, failureReason);
+            setLong(statement, 3, rowCount);
+            setLong(statement, 4, duplicateCount);
+            if (duplicatesTruncated == null) {
+                statement.setNull(5, Types.BOOLEAN);
+            } else {
+                statement.setBoolean(5, duplicatesTruncated);
+            }
+            statement.setString(6, duplicateSamples);
+            statement.setString(7, contentHash);
+            statement.setObject(8, updatedAt);
+            statement.setLong(9, fileId);
+        }
+
+        private static void setLong(PreparedStatement statement, int index, Long value) throws SQLException {
+            if (value == null) {
+                statement.setNull(index, Types.BIGINT);
+            } else {
+                statement.setLong(index, value);
+            }
+        }
+
+        private void runAfterFlush() {
+            for (Runnable task : afterFlush) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("After-flush task failed. fileId={}", fileId, e);
+                }
+            }
+        }
+    }
+}
@@ -1,46 +1,344 @@
 package com.example.coupon_admin.service;
 
+import com.example.coupon_admin.domain.FileStatus;
 import com.example.coupon_admin.domain.UploadFile;
+import com.example.coupon_admin.global.io.ContentHash;
 import com.example.coupon_admin.repository.UploadFileRepository;
+import com.example.coupon_admin.storage.AsyncStorageService;
+import com.example.coupon_admin.storage.StorageEncoding;
 import com.example.coupon_admin.storage.StorageService;
+import com.example.coupon_admin.validator.CsvFileValidator;
+import com.example.coupon_admin.validator.FileValidatorFactory;
+import com.example.coupon_admin.validator.FileValidatorStrategy;
+import com.example.coupon_admin.validator.ValidationResult;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 public class FileUploadService {
 
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final String SPOOL_FILE_PREFIX = "coupon-upload-";
+    // 검증을 통과하여 내용을 재사용할 수 있는 상태
+    private static final List<FileStatus> REUSABLE_STATUSES =
+            List.of(FileStatus.COMPLETED, FileStatus.INGESTING, FileStatus.INGESTED);
+
     private final StorageService storageService;
     private final UploadFileRepository uploadFileRepository;
     private final FileValidationService fileValidationService;
+    private final FileValidatorFactory validatorFactory;
+    private final MeterRegistry meterRegistry;
+    // 논블로킹 스토리지 (S3이고 cloud.aws.s3.async.enabled=true일 때만 있음)
+    private final Optional<AsyncStorageService> asyncStorageService;
+
+    // 직접 업로드용 Pre-signed URL 만료 시간(분)
+    @Value("${app.s3.presigned-url.upload-expiration-minutes:15}")
+    private long uploadExpirationMinutes;
+
+    // 같은 내용의 재업로드 시 기존 스토리지 객체와 검증 결과 재사용 여부
+    @Value("${app.upload.deduplication.enabled:true}")
+    private boolean deduplicationEnabled;
+
+    // 서버를 거쳐 저장하는 파일의 저장 인코딩 (identity: 원본 그대로, gzip: 읽는 만큼 압축)
+    // 직접 업로드와 조각 업로드는 클라이언트가 원본을 그대로 올리므로 항상 IDENTITY
+    @Value("${app.storage.compression:identity}")
+    private StorageEncoding storageEncoding;
 
-    public Long upload(MultipartFile multipartFile) throws IOException {
-        // 1. S3에 저장할 고유한 파일명 생성
-        String s3FileName = UUID.randomUUID() + "-" + multipartFile.getOriginalFilename();
+    /**
+     * 멀티파트 파일을 스토리지에 업로드하면서 동시에 검증합니다. 스토리지에서 다시 내려받아 검증하지 않습니다.
+     * CSV는 Tomcat이 디스크에 스풀한 임시 파일을 메모리 매핑하여 검증하고, 그 외 형식은 같은 스풀 파일을 스트림으로 읽어 검증합니다.
+     * 두 분기가 모두 끝나면 최종 상태(COMPLETED/FAILED)가 반영된 UploadFile을 반환합니다.
+     * 내용(SHA-256)이 같은 검증 완료 파일이 이미 있으면 업로드와 검증 없이 그 스토리지 객체와 결과를 재사용합니다.
+     * 검증 대기 큐가 가득 찬 경우에는 업로드만 수행하고, 검증은 스토리지 기반 검증으로 넘깁니다.
+     */
+    public UploadFile upload(MultipartFile multipartFile) throws IOException {
+        // 0. 스풀된 멀티파트를 이 요청 전용 임시 파일로 넘겨받음 (같은 파일시스템이면 이름만 바뀌어 복사 없음)
+        long start = System.nanoTime();
+        String outcome = "error";
+        Path spoolFile = Files.createTempFile(SPOOL_FILE_PREFIX, ".tmp");
+        try {
+            multipartFile.transferTo(spoolFile.toFile());
+            UploadFile uploadFile = upload(multipartFile, spoolFile);
+            outcome = uploadFile.getStatus().name().toLowerCase();
+            return uploadFile;
+        } finally {
+            Files.deleteIfExists(spoolFile);
+            recordUpload(multipartFile, outcome, System.nanoTime() - start);
+        }
+    }
+
+    // 업로드 요청 한 건의 소요 시간(스풀, 업로드, 검증 포함)과 크기 (outcome: 반환 시점의 상태, 예외는 error)
+    private void recordUpload(MultipartFile multipartFile, String outcome, long nanos) {
+        String type = validatorFactory.getFileType(multipartFile.getOriginalFilename());
+        Timer.builder("coupon.upload")
+                .description("Server-side upload request duration including validation")
+                .tags("type", type, "outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("coupon.upload.bytes")
+                .description("Uploaded file size")
+                .baseUnit("bytes")
+                .tags("type", type)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(multipartFile.getSize());
+    }
 
-        // 2. 파일 메타데이터를 먼저 DB에 저장
+    private UploadFile upload(MultipartFile multipartFile, Path spoolFile) throws IOException {
+        // 1. 내용 해시 계산 (스풀 파일을 메모리 매핑하여 스토리지 업로드 전에 한 번 읽음)
+        String contentHash = ContentHash.sha256(spoolFile);
+
+        // 2. 같은 내용의 검증 완료 파일이 있으면 스토리지 객체와 검증 결과를 재사용 (업로드/검증 생략)
+        Optional<UploadFile> identical = findReusable(contentHash, multipartFile.getOriginalFilename());
+        if (identical.isPresent()) {
+            UploadFile source = identical.get();
+            UploadFile uploadFile = UploadFile.builder()
+                    .originalFileName(multipartFile.getOriginalFilename())
+                    .storagePath(source.getStoragePath())
+                    .fileSize(multipartFile.getSize())
+                    .contentHash(contentHash)
+                    .storageEncoding(source.getStorageEncoding())
+                    .build();
+            uploadFileRepository.save(uploadFile);
+            fileValidationService.reuseResult(uploadFile, source);
+            return uploadFile;
+        }
+
+        // 3. S3에 저장할 고유한 파일명 생성 후 파일 메타데이터를 먼저 DB에 저장
         UploadFile uploadFile = UploadFile.builder()
                 .originalFileName(multipartFile.getOriginalFilename())
-                .storagePath(s3FileName)
+                .storagePath(createStorageKey(multipartFile.getOriginalFilename()))
                 .fileSize(multipartFile.getSize())
+                .contentHash(contentHash)
+                .storageEncoding(resolveStorageEncoding(multipartFile.getOriginalFilename()))
                 .build();
         uploadFileRepository.save(uploadFile);
 
-        // 3. 스토리지에 파일 업로드
-        storageService.uploadFile(
-                s3FileName,
-                multipartFile.getInputStream(),
-                multipartFile.getSize(),
-                multipartFile.getContentType()
+        // 4. 파일명을 기반으로 검증 전략 선택 (지원하지 않는 형식이면 업로드만 수행 후 실패 처리)
+        FileValidatorStrategy validator;
+        try {
+            validator = validatorFactory.getValidator(multipartFile.getOriginalFilename());
+        } catch (IllegalArgumentException e) {
+            uploadSpoolFile(uploadFile, multipartFile, spoolFile);
+            fileValidationService.fail(uploadFile, "Validation error: " + e.getMessage());
+            return uploadFile;
+        }
+
+        // 5. 검증 분기 시작: 스풀 파일에서 업로드와 독립적으로 검증
+        //    (업로드가 검증 작업의 실행 시점을 기다리지 않으므로, 큐에서 대기 중이어도 업로드는 바로 진행)
+        CompletableFuture<ValidationResult> validation;
+        try {
+            if (validator instanceof CsvFileValidator csvValidator) {
+                // CSV: 스풀 파일을 메모리 매핑하여 검증 (업로드 속도와 무관하게 디스크 읽기 속도로 진행)
+                validation = fileValidationService.validateLocalFile(uploadFile, csvValidator, spoolFile);
+            } else {
+                // 그 외 형식: 스풀 파일을 스트림으로 읽어 검증
+                validation = fileValidationService.validateLocalFile(uploadFile, validator, spoolFile);
+            }
+        } catch (RejectedExecutionException e) {
+            // 검증 대기 큐가 가득 참: 업로드만 먼저 하고 검증은 rejection-policy에 따라 처리
+            uploadSpoolFile(uploadFile, multipartFile, spoolFile);
+            fileValidationService.validateFile(uploadFile.getId());
+            return uploadFileRepository.findById(uploadFile.getId()).orElse(uploadFile);
+        }
+
+        // 6. 업로드 분기: 업로드와 검증이 함께 진행되므로 이 시점부터 VALIDATING
+        uploadFile.startValidation();
+        uploadFileRepository.save(uploadFile);
+        ValidationResult result;
+        try {
+            CompletableFuture<Void> upload = startSpoolUpload(uploadFile, multipartFile, spoolFile);
+
+            // 7. 두 분기를 하나로 합쳐 한 번만 기다리고, 모두 끝나면 검증 결과를 최종 상태로 반영
+            //    (applyResult는 DB 배치 반영을 할 수 있으므로 이벤트 루프가 아닌 요청 스레드에서 호출)
+            result = awaitUpload(uploadFile, upload.thenCombine(validation, (ignored, validated) -> validated));
+        } catch (IOException | RuntimeException e) {
+            // 업로드 실패(FAILED 기록됨): 검증 결과는 버리고, 스풀 파일을 읽는 검증이 없어진 뒤 반환 (반환 후 스풀 파일 삭제)
+            discardValidation(validation);
+            throw e;
+        }
+        fileValidationService.applyResult(uploadFile, result);
+
+        return uploadFile;
+    }
+
+    /**
+     * 클라이언트가 스토리지에 직접 업로드할 수 있도록 Pre-signed PUT URL을 발급합니다.
+     * 파일 메타데이터는 UPLOADING 상태로 먼저 저장되며, 서버는 파일 바이트를 전혀 받지 않습니다.
+     *
+     * @param fileName 업로드할 원본 파일명
+     * @param contentType 업로드할 파일의 MIME 타입 (없으면 application/octet-stream)
+     * @return PresignedUploadInfo 객체
+     */
+    public PresignedUploadInfo prepareDirectUpload(String fileName, String contentType) throws IOException {
+        // 1. 지원하지 않는 형식은 URL 발급 전에 거절
+        validatorFactory.getValidator(fileName);
+
+        String resolvedContentType = StringUtils.hasText(contentType) ? contentType : DEFAULT_CONTENT_TYPE;
+        String storageKey = createStorageKey(fileName);
+
+        // 2. 파일 메타데이터 저장 (크기는 업로드 완료 시점에 확정)
+        UploadFile uploadFile = UploadFile.builder()
+                .originalFileName(fileName)
+                .storagePath(storageKey)
+                .build();
+        uploadFileRepository.save(uploadFile);
+
+        // 3. 스토리지 서비스를 통해 Pre-signed 업로드 URL 생성
+        Instant expirationTime = Instant.now().plusSeconds(uploadExpirationMinutes * 60);
+        String uploadUrl = storageService.generatePresignedUploadUrl(
+                storageKey,
+                resolvedContentType,
+                Duration.ofMinutes(uploadExpirationMinutes)
         );
 
-        // 4. 비동기 파일 검증 로직 호출
+        return new PresignedUploadInfo(
+                uploadFile.getId(),
+                uploadUrl,
+                resolvedContentType,
+                LocalDateTime.ofInstant(expirationTime, ZoneId.systemDefault())
+        );
+    }
+
+    /**
+     * 클라이언트의 직접 업로드가 끝났음을 확인하고 비동기 검증을 시작합니다.
+     *
+     * @param fileId prepareDirectUpload에서 발급한 파일 ID
+     * @return 검증이 시작된 UploadFile
+     */
+    public UploadFile completeDirectUpload(Long fileId) throws IOException {
+        UploadFile uploadFile = uploadFileRepository.findById(fileId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 파일을 찾을 수 없습니다. fileId=" + fileId));
+
+        if (uploadFile.getStatus() != FileStatus.UPLOADING) {
+            throw new IllegalArgumentException("이미 처리된 업로드입니다. fileId=" + fileId);
+        }
+
+        // 1. 스토리지에 실제로 올라왔는지 확인하고 크기 기록 (객체가 없으면 예외)
+        uploadFile.confirmUpload(storageService.getFileSize(uploadFile.getStoragePath()));
+        uploadFileRepository.save(uploadFile);
+
+        // 2. 비동기 파일 검증 로직 호출 (스토리지에서 직접 읽어 검증, 큐가 가득 차면 FAILED 또는 대기)
         fileValidationService.validateFile(uploadFile.getId());
 
-        return uploadFile.getId(); // 생성된 파일 ID 반환
+        return uploadFileRepository.findById(fileId).orElse(uploadFile);
+    }
+
+    /**
+     * 내용 해시가 같고 검증을 통과한 기존 파일을 찾습니다.
+     * 같은 바이트라도 확장자에 따라 검증 전략이 달라지므로, 같은 전략으로 검증된 파일만 재사용합니다.
+     */
+    private Optional<UploadFile> findReusable(String contentHash, String originalFilename) {
+        if (!deduplicationEnabled) {
+            return Optional.empty();
+        }
+        return uploadFileRepository.findFirstByContentHashAndStatusInOrderByIdAsc(contentHash, REUSABLE_STATUSES)
+                .filter(source -> sameValidator(source.getOriginalFileName(), originalFilename));
+    }
+
+    private boolean sameValidator(String fileName, String otherFileName) {
+        try {
+            return validatorFactory.getValidator(fileName) == validatorFactory.getValidator(otherFileName);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // 이미 압축된 업로드(.gz, .zip)는 다시 압축해도 크기가 줄지 않으므로 원본 그대로 저장
+    private StorageEncoding resolveStorageEncoding(String originalFilename) {
+        return validatorFactory.isCompressed(originalFilename) ? StorageEncoding.IDENTITY : storageEncoding;
+    }
+
+    static String createStorageKey(String originalFilename) {
+        return UUID.randomUUID() + "-" + originalFilename;
+    }
+
+    // 스풀 파일을 스토리지에 업로드하고 완료를 기다립니다.
+    private void uploadSpoolFile(UploadFile uploadFile, MultipartFile multipartFile, Path spoolFile) throws IOException {
+        awaitUpload(uploadFile, startSpoolUpload(uploadFile, multipartFile, spoolFile));
+    }
+
+    /**
+     * 스풀 파일 업로드를 시작합니다.
+     * 논블로킹 스토리지를 쓸 수 있고 원본 그대로 저장하는 경우 전송을 시작만 하고 바로 반환하므로, 호출자가 다른 작업과 합쳐 기다릴 수 있습니다.
+     * 그 외에는 동기 스토리지로 전송을 마친 뒤 완료된 Future를 반환합니다.
+     */
+    private CompletableFuture<Void> startSpoolUpload(UploadFile uploadFile, MultipartFile multipartFile, Path spoolFile)
+            throws IOException {
+        if (asyncStorageService.isEmpty() || uploadFile.getStorageEncoding() != StorageEncoding.IDENTITY) {
+            uploadToStorage(uploadFile, multipartFile, Files.newInputStream(spoolFile));
+            return CompletableFuture.completedFuture(null);
+        }
+        return asyncStorageService.get().uploadFile(uploadFile.getStoragePath(), spoolFile, multipartFile.getContentType());
+    }
+
+    // 대기 중인 검증은 큐에서 빼고, 이미 실행 중이면 스풀 파일을 다 읽을 때까지 기다림
+    private void discardValidation(CompletableFuture<ValidationResult> validation) {
+        if (!validation.cancel(false)) {
+            validation.exceptionally(e -> null).join();
+        }
+    }
+
+    // 비동기 업로드 결과를 기다리고, 실패하면 파일을 FAILED로 기록한 뒤 예외를 다시 던짐
+    private <T> T awaitUpload(UploadFile uploadFile, CompletableFuture<T> upload) throws IOException {
+        try {
+            return AsyncStorageService.await(upload);
+        } catch (IOException e) {
+            fileValidationService.fail(uploadFile, "Upload error: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    private void uploadToStorage(UploadFile uploadFile, MultipartFile multipartFile, InputStream content) throws IOException {
+        try (InputStream in = content) {
+            storageService.uploadFile(
+                    uploadFile.getStoragePath(),
+                    in,
+                    multipartFile.getSize(),
+                    multipartFile.getContentType(),
+                    uploadFile.getStorageEncoding()
+            );
+        } catch (IOException e) {
+            fileValidationService.fail(uploadFile, "Upload error: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * 서비스 레이어 내부에서 컨트롤러로 업로드 URL 정보를 전달하기 위한 DTO.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PresignedUploadInfo {
+        private Long fileId;
+        private String uploadUrl;
+        private String contentType;
+        private LocalDateTime expiresAt;
     }
 }
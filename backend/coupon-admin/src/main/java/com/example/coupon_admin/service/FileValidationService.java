@@ -1,49 +1,366 @@
 package com.example.coupon_admin.service;
 
+import com.example.coupon_admin.domain.FileStatus;
 import com.example.coupon_admin.domain.UploadFile;
+import com.example.coupon_admin.global.async.ValidationExecutor;
+import com.example.coupon_admin.global.io.ContentHash;
+import com.example.coupon_admin.global.io.ProgressInputStream;
 import com.example.coupon_admin.repository.UploadFileRepository;
+import com.example.coupon_admin.storage.AsyncStorageService;
+import com.example.coupon_admin.storage.StorageEncoding;
 import com.example.coupon_admin.storage.StorageService;
+import com.example.coupon_admin.validator.CsvFileValidator;
+import com.example.coupon_admin.validator.ExcelFileValidator;
 import com.example.coupon_admin.validator.FileValidatorFactory;
 import com.example.coupon_admin.validator.FileValidatorStrategy;
+import com.example.coupon_admin.validator.ParallelCsvValidator;
+import com.example.coupon_admin.validator.ValidationMetrics;
 import com.example.coupon_admin.validator.ValidationResult;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.RejectedExecutionException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class FileValidationService {
 
+    public enum RejectionPolicy {
+        FAIL, PENDING
+    }
+
+    private static final int DUPLICATE_SAMPLES_MAX_LENGTH = 1000;
+
     private final StorageService storageService;
     private final UploadFileRepository uploadFileRepository;
     private final FileValidatorFactory validatorFactory;
+    private final ParallelCsvValidator parallelCsvValidator;
+    private final CustomerIngestionService customerIngestionService;
+    private final ValidationExecutor validationExecutor;
+    private final FileEventService fileEventService;
+    private final FileStatusWriter fileStatusWriter;
+    private final ValidationMetrics validationMetrics;
+    // 논블로킹 스토리지 (S3이고 cloud.aws.s3.async.enabled=true일 때만 있음)
+    private final Optional<AsyncStorageService> asyncStorageService;
+
+    // 검증 대기 큐가 가득 찼을 때 처리 방식 (fail: 즉시 FAILED, pending: UPLOADING으로 대기 후 재제출)
+    @Value("${app.validation.executor.rejection-policy:fail}")
+    private RejectionPolicy rejectionPolicy;
+
+    // rejection-policy=pending일 때 실행기 큐에 들어가지 못한 파일 ID (ID만 보관하므로 메모리 부담이 작음)
+    private final Deque<Long> pendingFileIds = new ConcurrentLinkedDeque<>();
+
+    // 검증 실행기 큐에 제출되어 아직 시작하지 않은 파일 ID (재스캔 시 중복 제출 방지)
+    private final Set<Long> queuedFileIds = ConcurrentHashMap.newKeySet();
+
+    // 이 시간 동안 갱신되지 않은 UPLOADING 파일(크기 확정)은 대기 목록에서 빠진 것으로 보고 다시 제출
+    @Value("${app.validation.pending.stale-after:PT10M}")
+    private Duration staleAfter;
+
+    // 어떤 검증 작업이 끝나든(업로드 스트림/스풀 파일/저장 파일) 큐에 생긴 빈자리로 대기 파일을 다시 제출
+    @PostConstruct
+    void registerPendingDispatcher() {
+        validationExecutor.addCompletionListener(this::dispatchPending);
+    }
 
-    @Async // 비동기
+    /**
+     * 스토리지에 이미 저장된 파일의 검증을 검증 실행기에 제출합니다.
+     * 업로드 스트림을 직접 받을 수 없는 경우(직접 업로드, 재검증 등)에 사용합니다.
+     * 대기 큐가 가득 차면 rejection-policy에 따라 실패 처리하거나 UPLOADING 상태로 대기시킵니다.
+     */
     public void validateFile(Long fileId) {
         UploadFile uploadFile = uploadFileRepository.findById(fileId)
                 .orElseThrow(() -> new IllegalArgumentException("File not found"));
 
+        if (!trySubmit(uploadFile)) {
+            onRejected(uploadFile);
+        }
+    }
+
+    /**
+     * 업로드 요청 동안 로컬에 스풀된 파일을 검증합니다. (CSV 외 형식)
+     * xlsx는 스풀 파일을 바로 열고(임시 파일로 다시 복사하지 않음), 그 외 형식은 스트림으로 읽습니다.
+     * 스토리지 업로드와 독립적으로 진행되므로, 검증 작업이 큐에서 대기하는 동안에도 업로드는 막히지 않습니다.
+     *
+     * @param uploadFile 검증할 파일 (크기는 검증 실행기 우선순위, ID는 진행률 이벤트에 사용)
+     * @param validator 사용할 검증 전략
+     * @param file 스풀된 로컬 파일 (검증이 끝날 때까지 삭제하지 않아야 함)
+     * @return 검증 결과 (예외가 발생해도 실패 결과로 완료됨)
+     * @throws RejectedExecutionException 검증 대기 큐가 가득 찬 경우
+     */
+    public CompletableFuture<ValidationResult> validateLocalFile(UploadFile uploadFile, FileValidatorStrategy validator, Path file) {
+        Long fileSize = uploadFile.getFileSize();
+        ValidationProgress progress = fileEventService.progressListener(uploadFile.getId(), fileSize);
+        String type = validatorFactory.getFileType(uploadFile.getOriginalFileName());
+        return validationExecutor.submit(fileSize != null ? fileSize : Long.MAX_VALUE, () -> {
+            if (validator instanceof ExcelFileValidator excelValidator) {
+                try {
+                    ValidationResult result = validationMetrics.record(type, "file", () -> excelValidator.validate(file, progress::addRows));
+                    progress.addBytes(Files.size(file)); // 파일을 임의 위치로 읽으므로 바이트 진행률은 끝에서 한 번
+                    return result;
+                } catch (Exception e) {
+                    return ValidationResult.failure("Validation error: " + e.getMessage());
+                }
+            }
+            try (InputStream in = new ProgressInputStream(Files.newInputStream(file), progress::addBytes)) {
+                return validationMetrics.record(type, "stream", () -> validator.validate(in, progress::addRows));
+            } catch (Exception e) {
+                return ValidationResult.failure("Validation error: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 업로드 요청 동안 로컬에 스풀된 CSV 파일을 메모리 매핑하여 검증합니다.
+     * 스토리지 업로드와 독립적으로 디스크 읽기 속도로 진행되며, 스토리지에서 다시 내려받지 않습니다.
+     *
+     * @param uploadFile 검증할 파일 (크기는 검증 실행기 우선순위, ID는 진행률 이벤트에 사용)
+     * @param validator CSV 검증 전략
+     * @param file 스풀된 로컬 파일 (검증이 끝날 때까지 삭제하지 않아야 함)
+     * @return 검증 결과 (예외가 발생해도 실패 결과로 완료됨)
+     * @throws RejectedExecutionException 검증 대기 큐가 가득 찬 경우
+     */
+    public CompletableFuture<ValidationResult> validateLocalFile(UploadFile uploadFile, CsvFileValidator validator, Path file) {
+        Long fileSize = uploadFile.getFileSize();
+        ValidationProgress progress = fileEventService.progressListener(uploadFile.getId(), fileSize);
+        String type = validatorFactory.getFileType(uploadFile.getOriginalFileName());
+        return validationExecutor.submit(fileSize != null ? fileSize : Long.MAX_VALUE, () -> {
+            try {
+                return validationMetrics.record(type, "mapped", () -> validator.validate(file, progress::addBytes, progress::addRows));
+            } catch (Exception e) {
+                return ValidationResult.failure("Validation error: " + e.getMessage());
+            }
+        });
+    }
+
+    // 검증 실행기 밖에서 대기 중인 파일 수 (rejection-policy=pending)
+    public int getPendingCount() {
+        return pendingFileIds.size();
+    }
+
+    /**
+     * 크기가 확정됐지만 staleAfter 동안 UPLOADING에 머문 파일을 다시 제출합니다.
+     * 대기 목록(pendingFileIds)은 메모리에만 있으므로, 재시작으로 잃어버린 대기 파일은 기동 시와 주기적으로 여기서 복구됩니다.
+     * 스토리지에 객체가 아직 없는 파일(업로드 진행 중)은 건너뜁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.validation.pending.rescan-interval:PT5M}")
+    public void resubmitStale() {
+        LocalDateTime threshold = LocalDateTime.now().minus(staleAfter);
+        for (UploadFile uploadFile : uploadFileRepository
+                .findByStatusAndFileSizeIsNotNullAndMultipartUploadIdIsNullAndUpdatedAtBefore(FileStatus.UPLOADING, threshold)) {
+            Long fileId = uploadFile.getId();
+            if (queuedFileIds.contains(fileId) || pendingFileIds.contains(fileId)) {
+                continue;
+            }
+            try {
+                storageService.getFileSize(uploadFile.getStoragePath());
+            } catch (IOException e) {
+                continue;
+            }
+            log.info("Resubmit stale upload for validation. fileId={}", fileId);
+            if (!trySubmit(uploadFile)) {
+                onRejected(uploadFile);
+            }
+        }
+    }
+
+    private boolean trySubmit(UploadFile uploadFile) {
+        Long fileId = uploadFile.getId();
+        Long fileSize = uploadFile.getFileSize();
+        queuedFileIds.add(fileId);
+        try {
+            validationExecutor.submit(fileSize != null ? fileSize : Long.MAX_VALUE, () -> {
+                queuedFileIds.remove(fileId);
+                validateStoredFile(uploadFile);
+                return null;
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            queuedFileIds.remove(fileId);
+            return false;
+        }
+    }
+
+    private void onRejected(UploadFile uploadFile) {
+        if (rejectionPolicy == RejectionPolicy.PENDING) {
+            // 상태는 UPLOADING 그대로 두고, 실행 중인 검증이 끝날 때 다시 제출 (재시작으로 잃으면 resubmitStale이 복구)
+            pendingFileIds.offerLast(uploadFile.getId());
+            log.warn("Validation queue is full. File is pending. fileId={}, pending={}", uploadFile.getId(), pendingFileIds.size());
+            return;
+        }
+        fail(uploadFile, "Validation queue is full. Please retry later.");
+    }
+
+    // 대기 중인 파일을 큐에 빈자리가 있는 만큼 다시 제출
+    private void dispatchPending() {
+        Long fileId;
+        while ((fileId = pendingFileIds.pollFirst()) != null) {
+            UploadFile uploadFile = uploadFileRepository.findById(fileId).orElse(null);
+            if (uploadFile == null || uploadFile.getStatus() != FileStatus.UPLOADING) {
+                continue;
+            }
+            if (!trySubmit(uploadFile)) {
+                pendingFileIds.offerFirst(fileId);
+                return;
+            }
+        }
+    }
+
+    // 검증 작업자 스레드에서 실행되며, 상태 전이는 FileStatusWriter가 모아서 반영
+    private void validateStoredFile(UploadFile uploadFile) {
+        uploadFile.startValidation();
+        fileStatusWriter.write(uploadFile);
+
         try {
             // 1. 파일명을 기반으로 적절한 검증 전략 선택
             FileValidatorStrategy validator = validatorFactory.getValidator(uploadFile.getOriginalFileName());
 
-            // 2. 스토리지에서 파일 다운로드
-            try (InputStream fileStream = storageService.downloadFile(uploadFile.getStoragePath())) {
-                // 3. 전략에 검증 위임
-                ValidationResult result = validator.validate(fileStream);
+            // 2. 대용량 CSV는 구간(Range GET)별로 나누어 병렬 검증 (진행률은 병합을 마친 구간의 합)
+            //    압축 저장된 객체는 임의 구간을 해제할 수 없으므로 순차 검증
+            String storagePath = uploadFile.getStoragePath();
+            StorageEncoding encoding = uploadFile.getStorageEncoding();
+            Long fileSize = uploadFile.getFileSize();
+            ValidationProgress progress = fileEventService.progressListener(uploadFile.getId(), fileSize);
+            String type = validatorFactory.getFileType(uploadFile.getOriginalFileName());
+            if (validator instanceof CsvFileValidator && encoding == StorageEncoding.IDENTITY
+                    && fileSize != null && parallelCsvValidator.supports(fileSize)) {
+                ValidationResult result = validationMetrics.record(type, "parallel", () -> validateInRanges(storagePath, fileSize, progress));
+                applyResult(uploadFile, result);
+                return;
+            }
+
+            // 3. 스토리지에서 파일 다운로드 (원본으로 해제하며 검증하고 내용 해시도 함께 계산)
+            MessageDigest digest = ContentHash.newDigest();
+            try (InputStream fileStream = new DigestInputStream(
+                    new ProgressInputStream(openStored(storagePath, encoding), progress::addBytes), digest)) {
+                // 4. 전략에 검증 위임
+                ValidationResult result = validationMetrics.record(type, "storage", () -> validator.validate(fileStream, progress::addRows));
 
-                // 4. 검증 결과에 따라 처리
-                if (result.isValid()) {
-                    uploadFile.complete();
-                } else {
-                    uploadFile.fail(result.getErrorMessage());
+                // 검증을 통과한 파일은 끝까지 읽혔으므로 해시가 완전함 (이후 같은 내용의 업로드가 재사용)
+                if (result.isValid() && uploadFile.getContentHash() == null) {
+                    uploadFile.recordContentHash(ContentHash.toHex(digest));
                 }
+
+                // 5. 검증 결과에 따라 처리
+                applyResult(uploadFile, result);
             }
 
         } catch (Exception e) {
             uploadFile.fail("Validation error: " + e.getMessage());
+            fileStatusWriter.write(uploadFile);
+        }
+    }
+
+    /**
+     * 구간별 병렬 검증.
+     * 논블로킹 스토리지가 있으면 구간을 제출할 때 Range GET을 먼저 시작하므로, 앞 구간을 파싱하는 동안 다음 구간들의 요청이 함께 진행됩니다.
+     */
+    private ValidationResult validateInRanges(String key, long fileSize, ValidationProgress progress) {
+        if (asyncStorageService.isPresent()) {
+            AsyncStorageService async = asyncStorageService.get();
+            return parallelCsvValidator.validateAsync((start, end) -> async.downloadFileRange(key, start, end),
+                    fileSize, progress::addBytes, progress::addRows);
+        }
+        return parallelCsvValidator.validate((start, end) -> storageService.downloadFileRange(key, start, end),
+                fileSize, progress::addBytes, progress::addRows);
+    }
+
+    /**
+     * 저장된 파일을 엽니다.
+     * 순차 검증은 스트림을 끝까지 파싱하는 동안 작업자 스레드를 점유하므로 동시 다운로드 수는 검증 작업자 수와 같습니다.
+     * 논블로킹 스토리지는 본문 수신을 이벤트 루프가 맡는다는 점(커넥션 풀)만 다릅니다.
+     */
+    private InputStream openStored(String key, StorageEncoding encoding) throws IOException {
+        if (asyncStorageService.isPresent()) {
+            return encoding.decode(AsyncStorageService.await(asyncStorageService.get().downloadFile(key)));
+        }
+        return storageService.downloadFile(key, encoding);
+    }
+
+    /**
+     * 검증 결과를 파일 상태에 반영하고 저장을 요청합니다. (FileStatusWriter가 다른 파일의 결과와 모아서 반영)
+     * 검증을 통과한 파일은 상태가 DB에 반영된 뒤 customer_id 적재를 비동기로 시작합니다.
+     */
+    public void applyResult(UploadFile uploadFile, ValidationResult result) {
+        uploadFile.recordValidationStats(result.getTotalRows(), result.getDuplicateRows(), result.isDuplicatesTruncated(),
+                formatDuplicates(result));
+        if (result.isDuplicatesTruncated()) {
+            log.warn("Duplicate detection reached its memory limit. duplicateCount is a lower bound. fileId={}, duplicates>={}",
+                    uploadFile.getId(), result.getDuplicateRows());
+        }
+        if (result.isValid()) {
+            uploadFile.complete();
+            fileStatusWriter.write(uploadFile, () -> startIngestion(uploadFile));
+        } else {
+            uploadFile.fail(result.getErrorMessage());
+            fileStatusWriter.write(uploadFile);
+        }
+    }
+
+    /**
+     * 내용이 같은 기존 파일(source)의 검증 결과를 새 파일(target)에 그대로 반영합니다. 검증을 다시 하지 않습니다.
+     */
+    public void reuseResult(UploadFile target, UploadFile source) {
+        target.reuseValidationOf(source);
+        uploadFileRepository.save(target);
+        startIngestion(target);
+    }
+
+    // 적재 실행기 큐가 가득 차면 적재를 시작하지 않고 COMPLETED로 남김 (검증 결과에는 영향 없음)
+    private void startIngestion(UploadFile uploadFile) {
+        if (!customerIngestionService.isEnabled()) {
+            return;
+        }
+        try {
+            customerIngestionService.ingest(uploadFile.getId());
+        } catch (RejectedExecutionException e) {
+            log.warn("Ingestion queue is full. Ingestion not started. fileId={}", uploadFile.getId());
         }
     }
+
+    // 중복 샘플을 "row 12: 1001, row 40: 1002" 형태로 변환 (컬럼 길이 내로 제한)
+    private String formatDuplicates(ValidationResult result) {
+        if (result.getDuplicates().isEmpty()) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (ValidationResult.DuplicateRow duplicate : result.getDuplicates()) {
+            String entry = "row " + duplicate.getRow() + ": " + duplicate.getCustomerId();
+            if (sb.length() + entry.length() + 2 > DUPLICATE_SAMPLES_MAX_LENGTH) {
+                break;
+            }
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(entry);
+        }
+        return sb.toString();
+    }
+
+    public void fail(UploadFile uploadFile, String reason) {
+        uploadFile.fail(reason);
+        uploadFileRepository.save(uploadFile);
+    }
 }
@@ -0,0 +1,14 @@
+package com.example.coupon_admin.service;
+
+/**
+ * 검증 진행률 리스너. 검증 파이프라인이 읽은 바이트 수와 검증한 데이터 행 수를 증분으로 받습니다.
+ * 여러 스레드(병렬 CSV 검증 구간)에서 동시에 호출해도 안전해야 합니다.
+ */
+public interface ValidationProgress {
+
+    // ProgressInputStream 등에서 이번에 읽은 바이트 수
+    void addBytes(long bytes);
+
+    // 검증기에서 이번에 검증한 데이터 행 수 (헤더 제외)
+    void addRows(long rows);
+}
@@ -0,0 +1,70 @@
+package com.example.coupon_admin.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 논블로킹 스토리지 서비스 추상화 인터페이스.
+ *
+ * 모든 메서드는 요청을 보낸 즉시 반환하며, 전송은 호출 스레드를 점유하지 않고 진행됩니다.
+ * 실패는 IOException으로 예외 완료됩니다. (StorageService와 같은 의미의 메시지)
+ * 스트림을 읽으며 변환(압축 등)해야 하는 업로드처럼 이 인터페이스로 할 수 없는 작업은 {@link StorageService}를 사용합니다.
+ */
+public interface AsyncStorageService {
+
+    /**
+     * 로컬 파일을 스토리지에 업로드합니다. 파일 채널에서 읽어 보내므로 내용을 메모리에 모으지 않습니다.
+     * 구현체는 설정된 임계값 이상의 파일을 파트로 나누어 병렬로 업로드할 수 있습니다.
+     *
+     * @param key 스토리지 내 파일 경로/키
+     * @param file 업로드할 파일 (완료될 때까지 삭제하지 않아야 함)
+     * @param contentType 파일 MIME 타입
+     * @return 업로드 완료
+     */
+    CompletableFuture<Void> uploadFile(String key, Path file, String contentType);
+
+    /**
+     * 스토리지에서 파일을 다운로드합니다. 응답 헤더를 받으면 완료되며, 본문은 읽는 속도에 맞춰 백그라운드에서 받습니다.
+     *
+     * @param key 스토리지 내 파일 경로/키
+     * @return 파일 내용 스트림 (읽기는 받은 데이터가 없으면 대기)
+     */
+    CompletableFuture<InputStream> downloadFile(String key);
+
+    /**
+     * 스토리지에서 파일의 일부 구간만 다운로드합니다. (병렬 검증 등)
+     *
+     * @param key 스토리지 내 파일 경로/키
+     * @param start 시작 오프셋 (포함)
+     * @param end 끝 오프셋 (제외)
+     * @return 해당 구간의 내용 스트림
+     */
+    CompletableFuture<InputStream> downloadFileRange(String key, long start, long end);
+
+    /**
+     * 스토리지에 저장된 파일의 크기를 조회합니다.
+     *
+     * @param key 스토리지 내 파일 경로/키
+     * @return 파일 크기 (bytes)
+     */
+    CompletableFuture<Long> getFileSize(String key);
+
+    /**
+     * 결과를 기다립니다. 동기 코드에서 호출할 때 사용하며, 예외 완료는 IOException으로 던집니다.
+     */
+    static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package com.example.coupon_admin.storage;
+
+import com.example.coupon_admin.global.io.MappedFileInputStream;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 파일시스템 기반 스토리지 서비스 구현체 (S3가 없는 온프레미스 설치, LocalStack 없는 개발/CI용)
+ * cloud.storage.provider=filesystem(filesystem 프로필)일 때 S3StorageService 대신 사용됩니다.
+ *
+ * 쓰기와 조각 병합은 FileChannel.transferFrom/transferTo로, 검증용 읽기는 메모리 매핑으로 처리합니다.
+ * Pre-signed URL 대신 만료 시각이 포함된 HMAC 서명 URL을 발급하며, LocalStorageController가 이를 검증하고 제공합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cloud.storage.provider", havingValue = "filesystem")
+public class LocalFileStorageService implements StorageService {
+
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final String URL_PATH = "/storage/local";
+    private static final String CONTENT_TYPE = "contentType";
+    private static final String CONTENT_ENCODING = "contentEncoding";
+    private static final String KEY = "key";
+    // transferFrom 한 번에 옮기는 최대 바이트 수
+    private static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
+    private static final String PROVIDER = "filesystem";
+
+    private final StorageMetrics storageMetrics;
+
+    @Value("${cloud.storage.filesystem.root:./storage}")
+    private String root;
+
+    // 서명 URL의 기준 주소 (이 서버의 외부 접근 주소)
+    @Value("${cloud.storage.filesystem.base-url:http://localhost:8080}")
+    private String baseUrl;
+
+    // 서명 키 (비어 있으면 기동 시 임의 생성 → 재시작하면 이전 URL은 무효)
+    @Value("${cloud.storage.filesystem.signing-secret:}")
+    private String signingSecret;
+
+    // 메모리 매핑 읽기 시 한 번에 매핑하는 구간 크기
+    @Value("${cloud.storage.filesystem.map-window:64MB}")
+    private DataSize mapWindow;
+
+    private Path objectsDir;   // 객체 내용
+    private Path metadataDir;  // 객체별 Content-Type/Content-Encoding
+    private Path uploadsDir;   // 쓰기 중인 임시 파일과 조각 업로드 세션
+    private SecretKeySpec signingKey;
+
+    @PostConstruct
+    void init() throws IOException {
+        Path rootDir = Path.of(root).toAbsolutePath().normalize();
+        objectsDir = Files.createDirectories(rootDir.resolve("objects"));
+        metadataDir = Files.createDirectories(rootDir.resolve("metadata"));
+        uploadsDir = Files.createDirectories(rootDir.resolve("uploads"));
+
+        byte[] secret;
+        if (StringUtils.hasText(signingSecret)) {
+            secret = signingSecret.getBytes(StandardCharsets.UTF_8);
+        } else {
+            log.warn("cloud.storage.filesystem.signing-secret is not set. Download URLs will not survive a restart.");
+            secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+        }
+        signingKey = new SecretKeySpec(secret, SIGNATURE_ALGORITHM);
+        log.info("Filesystem storage root: {}", rootDir);
+    }
+
+    @Override
+    public void uploadFile(String key, InputStream content, long size, String contentType) throws IOException {
+        storageMetrics.upload(PROVIDER, "upload", content, in -> writeObject(key, in, contentType, null));
+    }
+
+    @Override
+    public void uploadFile(String key, InputStream content, long size, String contentType, StorageEncoding encoding) throws IOException {
+        storageMetrics.upload(PROVIDER, "upload", content,
+                in -> writeObject(key, encoding.encode(in), contentType, encoding.getContentEncoding()));
+    }
+
+    // 로컬 디스크는 파트 병렬 전송의 이점이 없으므로 한 번에 기록
+    @Override
+    public void uploadFileMultipart(String key, InputStream content, long size, String contentType) throws IOException {
+        uploadFile(key, content, size, contentType);
+    }
+
+    @Override
+    public String createMultipartUpload(String key, String contentType) throws IOException {
+        String uploadId = UUID.randomUUID().toString();
+        Path sessionDir = Files.createDirectory(uploadsDir.resolve(uploadId));
+
+        Properties session = new Properties();
+        session.setProperty(KEY, key);
+        setIfPresent(session, CONTENT_TYPE, contentType);
+        storeProperties(session, sessionDir.resolve("session.properties"));
+        return uploadId;
+    }
+
+    @Override
+    public void uploadMultipartPart(String key, String uploadId, int partNumber, InputStream content, long size) throws IOException {
+        Path sessionDir = openSession(key, uploadId);
+        Path temp = Files.createTempFile(sessionDir, "part-", ".tmp");
+        try {
+            storageMetrics.upload(PROVIDER, "upload_part", content, in -> transferFrom(in, temp));
+            // 같은 번호로 다시 보내면 이전 조각을 덮어씀
+            Files.move(temp, partPath(sessionDir, partNumber), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void completeMultipartUpload(String key, String uploadId) throws IOException {
+        Path sessionDir = openSession(key, uploadId);
+        Properties session = loadProperties(sessionDir.resolve("session.properties"));
+
+        List<Path> parts;
+        try (Stream<Path> files = Files.list(sessionDir)) {
+            parts = files.filter(path -> path.getFileName().toString().endsWith(".part"))
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                    .toList();
+        }
+
+        // 조각을 번호 순서대로 이어 붙임 (파일 채널 간 transferTo는 커널 안에서 복사됨)
+        Path temp = Files.createTempFile(uploadsDir, "complete-", ".tmp");
+        try {
+            try (FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                for (Path part : parts) {
+                    try (FileChannel source = FileChannel.open(part, StandardOpenOption.READ)) {
+                        long position = 0;
+                        long size = source.size();
+                        while (position < size) {
+                            position += source.transferTo(position, size - position, target);
+                        }
+                    }
+                }
+            }
+            publish(key, temp, session.getProperty(CONTENT_TYPE), null);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        deleteRecursively(sessionDir);
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) throws IOException {
+        deleteRecursively(openSession(key, uploadId));
+    }
+
+    @Override
+    public InputStream downloadFile(String key) throws IOException {
+        long start = System.nanoTime();
+        try {
+            Path path = existingObject(key);
+            return storageMetrics.download(PROVIDER, "download", start,
+                    MappedFileInputStream.open(path, 0, Long.MAX_VALUE, mapWindow.toBytes()));
+        } catch (IOException e) {
+            storageMetrics.downloadFailed(PROVIDER, "download", start);
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream downloadFileRange(String key, long start, long end) throws IOException {
+        long requestStart = System.nanoTime();
+        try {
+            Path path = existingObject(key);
+            return storageMetrics.download(PROVIDER, "download_range", requestStart,
+                    MappedFileInputStream.open(path, start, end, mapWindow.toBytes()));
+        } catch (IOException e) {
+            storageMetrics.downloadFailed(PROVIDER, "download_range", requestStart);
+            throw e;
+        }
+    }
+
+    @Override
+    public String generatePresignedUrl(String key, Duration expiration) throws IOException {
+        return signedUrl("GET", key, null, expiration);
+    }
+
+    @Override
+    public String generatePresignedUploadUrl(String key, String contentType, Duration expiration) throws IOException {
+        return signedUrl("PUT", key, contentType, expiration);
+    }
+
+    @Override
+    public long getFileSize(String key) throws IOException {
+        return Files.size(existingObject(key));
+    }
+
+    /**
+     * 서명 URL의 서명과 만료 시각을 확인합니다. (LocalStorageController에서 사용)
+     *
+     * @param method HTTP 메서드 (GET 또는 PUT)
+     * @param contentType PUT의 경우 요청 Content-Type (발급 시 지정한 값과 같아야 함)
+     * @return 서명이 맞고 만료되지 않았으면 true
+     */
+    public boolean verifySignature(String method, String key, String contentType, long expires, String signature) {
+        if (Instant.now().getEpochSecond() > expires || signature == null) {
+            return false;
+        }
+        byte[] expected = sign(method, key, contentType, expires).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 저장된 객체의 경로와 메타데이터를 조회합니다. (서명 URL 다운로드 응답용)
+     *
+     * @throws IOException 객체가 없는 경우
+     */
+    public StoredObject getObject(String key) throws IOException {
+        Path path = existingObject(key);
+        Path metadataPath = resolve(metadataDir, key + ".properties");
+        Properties metadata = Files.exists(metadataPath) ? loadProperties(metadataPath) : new Properties();
+        return new StoredObject(
+                path,
+                Files.size(path),
+                metadata.getProperty(CONTENT_TYPE, DEFAULT_CONTENT_TYPE),
+                metadata.getProperty(CONTENT_ENCODING)
+        );
+    }
+
+    // 임시 파일에 기록한 뒤 원자적으로 교체하므로, 읽는 쪽은 쓰기 중인 객체를 보지 않음
+    private void writeObject(String key, InputStream content, String contentType, String contentEncoding) throws IOException {
+        Path temp = Files.createTempFile(uploadsDir, "put-", ".tmp");
+        try (InputStream in = content) {
+            transferFrom(in, temp);
+            publish(key, temp, contentType, contentEncoding);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void transferFrom(InputStream content, Path target) throws IOException {
+        try (ReadableByteChannel source = Channels.newChannel(content);
+             FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                position += transferred;
+            }
+        }
+    }
+
+    private void publish(String key, Path temp, String contentType, String contentEncoding) throws IOException {
+        Path target = resolve(objectsDir, key);
+        Path metadataPath = resolve(metadataDir, key + ".properties");
+        Files.createDirectories(target.getParent());
+        Files.createDirectories(metadataPath.getParent());
+
+        Properties metadata = new Properties();
+        setIfPresent(metadata, CONTENT_TYPE, contentType);
+        setIfPresent(metadata, CONTENT_ENCODING, contentEncoding);
+        storeProperties(metadata, metadataPath);
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path existingObject(String key) throws IOException {
+        Path path = resolve(objectsDir, key);
+        if (!Files.isRegularFile(path)) {
+            throw new NoSuchFileException("Object not found: " + key);
+        }
+        return path;
+    }
+
+    private Path openSession(String key, String uploadId) throws IOException {
+        Path sessionDir = resolve(uploadsDir, uploadId);
+        Path sessionFile = sessionDir.resolve("session.properties");
+        if (!Files.isRegularFile(sessionFile) || !key.equals(loadProperties(sessionFile).getProperty(KEY))) {
+            throw new NoSuchFileException("Upload session not found: " + uploadId);
+        }
+        return sessionDir;
+    }
+
+    private static Path partPath(Path sessionDir, int partNumber) {
+        return sessionDir.resolve(String.format("%05d.part", partNumber));
+    }
+
+    // 키에 ".." 등이 있어도 기준 디렉터리 밖으로 나가지 못하도록 확인
+    private static Path resolve(Path baseDir, String name) throws IOException {
+        Path path = baseDir.resolve(name).normalize();
+        if (!path.startsWith(baseDir) || path.equals(baseDir)) {
+            throw new IOException("Invalid storage key: " + name);
+        }
+        return path;
+    }
+
+    private String signedUrl(String method, String key, String contentType, Duration expiration) {
+        long expires = Instant.now().plus(expiration).getEpochSecond();
+        return baseUrl + URL_PATH
+                + "?key=" + URLEncoder.encode(key, StandardCharsets.UTF_8)
+                + "&expires=" + expires
+                + "&signature=" + sign(method, key, contentType, expires);
+    }
+
+    private String sign(String method, String key, String contentType, long expires) {
+        String payload = method + "\n" + key + "\n" + (contentType != null ? contentType : "") + "\n" + expires;
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(signingKey);
+            byte[] digest = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign storage URL", e);
+        }
+    }
+
+    private static void setIfPresent(Properties properties, String name, String value) {
+        if (value != null) {
+            properties.setProperty(name, value);
+        }
+    }
+
+    private static Properties loadProperties(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+
+    private static void storeProperties(Properties properties, Path path) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            properties.store(writer, null);
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * 저장된 객체 정보. (서명 URL 다운로드 시 Content-Type/Content-Encoding 헤더에 사용)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class StoredObject {
+        private Path path;
+        private long size;
+        private String contentType;
+        private String contentEncoding;
+    }
+}
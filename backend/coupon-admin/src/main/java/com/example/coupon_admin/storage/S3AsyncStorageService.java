@@ -0,0 +1,116 @@
+package com.example.coupon_admin.storage;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * S3AsyncClient 기반 논블로킹 스토리지 서비스 구현체 (cloud.storage.provider=s3).
+ *
+ * 요청/응답 본문을 Netty 이벤트 루프가 처리하므로, 진행 중인 전송이 스레드를 점유하지 않습니다.
+ * - 업로드: AsyncRequestBody.fromFile로 파일 채널에서 읽어 전송 (임계값 이상은 SDK가 파트로 나누어 병렬 업로드)
+ * - 다운로드: 헤더를 받으면 스트림을 반환하고, 본문은 호출자가 읽는 속도에 맞춰 백그라운드에서 수신
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cloud.storage.provider", havingValue = "s3", matchIfMissing = true)
+@ConditionalOnBooleanProperty(name = "cloud.aws.s3.async.enabled", matchIfMissing = true)
+public class S3AsyncStorageService implements AsyncStorageService {
+
+    private static final String PROVIDER = "s3-async";
+
+    private final S3AsyncClient s3AsyncClient;
+    private final StorageMetrics storageMetrics;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Override
+    public CompletableFuture<Void> uploadFile(String key, Path file, String contentType) {
+        long start = System.nanoTime();
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build();
+
+        return s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromFile(file))
+                .handle((response, e) -> {
+                    storageMetrics.uploaded(PROVIDER, "upload", start, file.toFile().length(), e == null);
+                    if (e != null) {
+                        throw failure("Failed to upload file to S3: ", e);
+                    }
+                    return null;
+                });
+    }
+
+    @Override
+    public CompletableFuture<InputStream> downloadFile(String key) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build();
+
+        return download(getObjectRequest, "download", "Failed to download file from S3: ");
+    }
+
+    @Override
+    public CompletableFuture<InputStream> downloadFileRange(String key, long start, long end) {
+        // HTTP Range 헤더는 끝 오프셋을 포함하므로 end - 1
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .range("bytes=" + start + "-" + (end - 1))
+                .build();
+
+        return download(getObjectRequest, "download_range", "Failed to download file range from S3: ");
+    }
+
+    @Override
+    public CompletableFuture<Long> getFileSize(String key) {
+        HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build();
+
+        return s3AsyncClient.headObject(headObjectRequest)
+                .handle((response, e) -> {
+                    if (e != null) {
+                        throw failure("Failed to get file size from S3: ", e);
+                    }
+                    return response.contentLength();
+                });
+    }
+
+    private CompletableFuture<InputStream> download(GetObjectRequest request, String operation, String message) {
+        long start = System.nanoTime();
+        return s3AsyncClient.getObject(request, AsyncResponseTransformer.toBlockingInputStream())
+                .handle((stream, e) -> {
+                    if (e != null) {
+                        storageMetrics.downloadFailed(PROVIDER, operation, start);
+                        throw failure(message, e);
+                    }
+                    return storageMetrics.download(PROVIDER, operation, start, stream);
+                });
+    }
+
+    // 동기 구현체와 같은 형식의 IOException으로 예외 완료
+    private static CompletionException failure(String message, Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return new CompletionException(new IOException(message + cause.getMessage(), cause));
+    }
+}
@@ -1,35 +1,117 @@
 package com.example.coupon_admin.storage;
 
+import com.example.coupon_admin.global.async.ThreadFactories;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 
-// AWS S3 기반 스토리지 서비스 구현체
+// AWS S3 기반 스토리지 서비스 구현체 (기본값, cloud.storage.provider=s3)
+@Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "cloud.storage.provider", havingValue = "s3", matchIfMissing = true)
 public class S3StorageService implements StorageService {
 
+    // S3 제약: 마지막 파트를 제외한 파트 최소 크기 5MB, 최대 파트 수 10,000개
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    private static final int MAX_PARTS = 10_000;
+    private static final long RETRY_BACKOFF_MILLIS = 200;
+    private static final String PROVIDER = "s3";
+
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
+    private final StorageMetrics storageMetrics;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    // 이 크기 이상이면 자동으로 멀티파트 업로드 사용
+    @Value("${cloud.aws.s3.multipart.threshold:16MB}")
+    private DataSize multipartThreshold;
+
+    @Value("${cloud.aws.s3.multipart.part-size:8MB}")
+    private DataSize partSize;
+
+    // 업로드 한 건당 동시에 전송 중인 파트 수 (메모리 사용량 = part-size * part-concurrency)
+    @Value("${cloud.aws.s3.multipart.part-concurrency:4}")
+    private int partConcurrency;
+
+    // 모든 업로드가 공유하는 파트 전송 스레드 수
+    @Value("${cloud.aws.s3.multipart.transfer-threads:16}")
+    private int transferThreads;
+
+    @Value("${cloud.aws.s3.multipart.max-part-retries:3}")
+    private int maxPartRetries;
+
+    // 가상 스레드 모드면 파트 전송 스레드도 가상 스레드 (스레드 수 제한은 동일)
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private ExecutorService partUploadExecutor;
+
+    @PostConstruct
+    void initPartUploadExecutor() {
+        partUploadExecutor = Executors.newFixedThreadPool(
+                transferThreads, ThreadFactories.named("s3-part-upload-", virtualThreads, true));
+    }
+
+    @PreDestroy
+    void shutdownPartUploadExecutor() {
+        partUploadExecutor.shutdown();
+    }
+
     @Override
     public void uploadFile(String key, InputStream content, long size, String contentType) throws IOException {
+        storageMetrics.upload(PROVIDER, "upload", content, in -> putObject(key, in, size, contentType));
+    }
+
+    private void putObject(String key, InputStream content, long size, String contentType) throws IOException {
+        if (size >= multipartThreshold.toBytes()) {
+            uploadFileMultipart(key, content, size, contentType, null);
+            return;
+        }
+
         try {
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                     .bucket(bucket)
@@ -44,8 +126,194 @@ public class S3StorageService implements StorageService {
         }
     }
 
+    @Override
+    public void uploadFile(String key, InputStream content, long size, String contentType, StorageEncoding encoding) throws IOException {
+        if (encoding == StorageEncoding.IDENTITY) {
+            uploadFile(key, content, size, contentType);
+            return;
+        }
+        storageMetrics.upload(PROVIDER, "upload", content, in -> putEncodedObject(key, in, size, contentType, encoding));
+    }
+
+    private void putEncodedObject(String key, InputStream content, long size, String contentType, StorageEncoding encoding) throws IOException {
+        InputStream encoded = encoding.encode(content);
+        if (size >= multipartThreshold.toBytes()) {
+            // 압축 후 크기를 모르므로 파트 단위로 읽으며 업로드 (원본 크기는 파트 크기 산정에만 사용)
+            uploadFileMultipart(key, encoded, size, contentType, encoding.getContentEncoding());
+            return;
+        }
+
+        try {
+            // 임계값 미만의 원본은 압축 결과도 작으므로 메모리에 모아 한 번에 업로드
+            byte[] bytes = encoded.readAllBytes();
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(contentType)
+                    .contentEncoding(encoding.getContentEncoding())
+                    .contentLength((long) bytes.length)
+                    .build();
+
+            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(bytes));
+        } catch (Exception e) {
+            throw new IOException("Failed to upload file to S3: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void uploadFileMultipart(String key, InputStream content, long size, String contentType) throws IOException {
+        storageMetrics.upload(PROVIDER, "upload", content, in -> uploadFileMultipart(key, in, size, contentType, null));
+    }
+
+    private void uploadFileMultipart(String key, InputStream content, long size, String contentType, String contentEncoding) throws IOException {
+        String uploadId;
+        try {
+            uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(contentType)
+                    .contentEncoding(contentEncoding)
+                    .build()).uploadId();
+        } catch (Exception e) {
+            throw new IOException("Failed to start multipart upload to S3: " + e.getMessage(), e);
+        }
+
+        int effectivePartSize = effectivePartSize(size);
+        Semaphore inFlightParts = new Semaphore(partConcurrency);
+        Queue<byte[]> freeBuffers = new ConcurrentLinkedQueue<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+
+        try {
+            // 스트림은 순차적으로만 읽을 수 있으므로 파트 단위로 읽어 버퍼에 담고, 전송은 풀에서 병렬로 수행
+            for (int partNumber = 1; failure.get() == null; partNumber++) {
+                inFlightParts.acquire();
+                byte[] buffer = freeBuffers.poll();
+                if (buffer == null) {
+                    buffer = new byte[effectivePartSize];
+                }
+
+                int length = content.readNBytes(buffer, 0, effectivePartSize);
+                if (length == 0) {
+                    inFlightParts.release();
+                    break;
+                }
+
+                byte[] partBuffer = buffer;
+                int number = partNumber;
+                parts.add(CompletableFuture
+                        .supplyAsync(() -> uploadPart(key, uploadId, number, partBuffer, length), partUploadExecutor)
+                        .whenComplete((part, e) -> {
+                            if (e != null) {
+                                failure.compareAndSet(null, e);
+                            }
+                            freeBuffers.offer(partBuffer);
+                            inFlightParts.release();
+                        }));
+
+                if (length < effectivePartSize) {
+                    break;
+                }
+            }
+
+            // 전송 중인 파트가 모두 끝날 때까지 대기 (실패한 파트가 있으면 예외 발생)
+            CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).join();
+            if (failure.get() != null) {
+                throw new IOException("Part upload failed", failure.get());
+            }
+
+            List<CompletedPart> completedParts = parts.stream().map(CompletableFuture::join).toList();
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            abortMultipartUpload(key, uploadId, parts);
+            throw new IOException("Failed to upload file to S3 (multipart): " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String createMultipartUpload(String key, String contentType) throws IOException {
+        try {
+            return s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(contentType)
+                    .build()).uploadId();
+        } catch (Exception e) {
+            throw new IOException("Failed to start multipart upload to S3: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void uploadMultipartPart(String key, String uploadId, int partNumber, InputStream content, long size) throws IOException {
+        storageMetrics.upload(PROVIDER, "upload_part", content, in -> {
+            try {
+                UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength(size)
+                        .build();
+
+                s3Client.uploadPart(uploadPartRequest, RequestBody.fromInputStream(in, size));
+            } catch (Exception e) {
+                throw new IOException("Failed to upload part " + partNumber + " to S3: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    @Override
+    public void completeMultipartUpload(String key, String uploadId) throws IOException {
+        try {
+            // 조각 ETag는 따로 보관하지 않고 S3에 저장된 파트 목록에서 가져옴
+            List<CompletedPart> completedParts = new ArrayList<>();
+            s3Client.listPartsPaginator(ListPartsRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .build())
+                    .parts()
+                    .forEach(part -> completedParts.add(CompletedPart.builder()
+                            .partNumber(part.partNumber())
+                            .eTag(part.eTag())
+                            .build()));
+            completedParts.sort(Comparator.comparing(CompletedPart::partNumber));
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+        } catch (Exception e) {
+            throw new IOException("Failed to complete multipart upload to S3: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) throws IOException {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (Exception e) {
+            throw new IOException("Failed to abort multipart upload: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public InputStream downloadFile(String key) throws IOException {
+        long start = System.nanoTime();
         try {
             GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                     .bucket(bucket)
@@ -53,12 +321,31 @@ public class S3StorageService implements StorageService {
                     .build();
 
             ResponseInputStream<GetObjectResponse> s3ObjectInputStream = s3Client.getObject(getObjectRequest);
-            return s3ObjectInputStream;
+            return storageMetrics.download(PROVIDER, "download", start, s3ObjectInputStream);
         } catch (Exception e) {
+            storageMetrics.downloadFailed(PROVIDER, "download", start);
             throw new IOException("Failed to download file from S3: " + e.getMessage(), e);
         }
     }
 
+    @Override
+    public InputStream downloadFileRange(String key, long start, long end) throws IOException {
+        long requestStart = System.nanoTime();
+        try {
+            // HTTP Range 헤더는 끝 오프셋을 포함하므로 end - 1
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .range("bytes=" + start + "-" + (end - 1))
+                    .build();
+
+            return storageMetrics.download(PROVIDER, "download_range", requestStart, s3Client.getObject(getObjectRequest));
+        } catch (Exception e) {
+            storageMetrics.downloadFailed(PROVIDER, "download_range", requestStart);
+            throw new IOException("Failed to download file range from S3: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public String generatePresignedUrl(String key, Duration expiration) throws IOException {
         try {
@@ -78,4 +365,98 @@ public class S3StorageService implements StorageService {
             throw new IOException("Failed to generate presigned URL: " + e.getMessage(), e);
         }
     }
+
+    @Override
+    public String generatePresignedUploadUrl(String key, String contentType, Duration expiration) throws IOException {
+        try {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(contentType)
+                    .build();
+
+            PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                    .signatureDuration(expiration)
+                    .putObjectRequest(putObjectRequest)
+                    .build();
+
+            PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(presignRequest);
+            return presignedRequest.url().toString();
+        } catch (Exception e) {
+            throw new IOException("Failed to generate presigned upload URL: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public long getFileSize(String key) throws IOException {
+        try {
+            HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .build();
+
+            return s3Client.headObject(headObjectRequest).contentLength();
+        } catch (Exception e) {
+            throw new IOException("Failed to read file metadata from S3: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 파트 하나를 업로드합니다. 실패 시 지수 백오프로 max-part-retries 회까지 재시도합니다.
+     * 버퍼를 복사하지 않도록 ContentStreamProvider로 감싸며, 재시도마다 새 스트림을 생성합니다.
+     */
+    private CompletedPart uploadPart(String key, String uploadId, int partNumber, byte[] buffer, int length) {
+        UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) length)
+                .build();
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                UploadPartResponse response = s3Client.uploadPart(uploadPartRequest, RequestBody.fromContentProvider(
+                        () -> new ByteArrayInputStream(buffer, 0, length), length, "application/octet-stream"));
+                return CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build();
+            } catch (SdkException e) {
+                if (attempt >= maxPartRetries) {
+                    throw e;
+                }
+                log.warn("Retrying part {} of {} (attempt {}): {}", partNumber, key, attempt + 1, e.getMessage());
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MILLIS << attempt);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // 진행 중인 파트가 끝난 뒤 abort해야 S3에 고아 파트가 남지 않는다
+    private void abortMultipartUpload(String key, String uploadId, List<CompletableFuture<CompletedPart>> parts) {
+        try {
+            CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                    .handle((result, e) -> null)
+                    .join();
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (Exception e) {
+            log.error("Failed to abort multipart upload. key={}, uploadId={}", key, uploadId, e);
+        }
+    }
+
+    // 파트 수가 S3 제한(10,000개)을 넘지 않도록 필요 시 파트 크기를 키운다
+    private int effectivePartSize(long size) {
+        long required = (size + MAX_PARTS - 1) / MAX_PARTS;
+        long effective = Math.max(Math.max(partSize.toBytes(), MIN_PART_SIZE), required);
+        return (int) Math.min(effective, Integer.MAX_VALUE - 8);
+    }
 }
@@ -0,0 +1,42 @@
+package com.example.coupon_admin.storage;
+
+import com.example.coupon_admin.global.io.GzipCompressingInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 스토리지 객체의 저장 인코딩. UploadFile에 객체별로 기록되며, 기록이 없는 기존 객체는 IDENTITY(원본 그대로)입니다.
+ *
+ * GZIP 객체는 Content-Encoding: gzip 메타데이터와 함께 저장되므로,
+ * Pre-signed URL로 내려받는 HTTP 클라이언트(브라우저 등)는 원본 내용을 그대로 받습니다.
+ */
+public enum StorageEncoding {
+
+    IDENTITY(null),
+    GZIP("gzip");
+
+    private static final int DECODE_BUFFER_SIZE = 64 * 1024;
+
+    private final String contentEncoding;
+
+    StorageEncoding(String contentEncoding) {
+        this.contentEncoding = contentEncoding;
+    }
+
+    // HTTP Content-Encoding 값 (IDENTITY는 null)
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+
+    // 원본 스트림을 저장 형식으로 변환 (읽는 만큼 압축)
+    public InputStream encode(InputStream raw) throws IOException {
+        return this == GZIP ? new GzipCompressingInputStream(raw) : raw;
+    }
+
+    // 저장된 스트림을 원본으로 변환 (읽는 만큼 해제)
+    public InputStream decode(InputStream stored) throws IOException {
+        return this == GZIP ? new GZIPInputStream(stored, DECODE_BUFFER_SIZE) : stored;
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.coupon_admin.storage;
+
+import com.example.coupon_admin.global.io.ProgressInputStream;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 스토리지 구현체의 전송 지표를 기록합니다. (provider: s3 | s3-async | filesystem)
+ *
+ * - coupon.storage.transfer: 전송 한 건의 소요 시간 (operation, outcome별 백분위 히스토그램)
+ * - coupon.storage.transfer.bytes: 전송 한 건의 바이트 수
+ * - coupon.storage.throughput: 성공한 전송 한 건의 처리량 (bytes/s)
+ *
+ * 업로드는 호출자가 넘긴 원본 스트림에서 읽은 바이트(압축 저장 시 압축 전 크기)를,
+ * 다운로드는 호출자가 읽은 바이트(저장된 그대로의 크기)를 셉니다.
+ * 다운로드 시간은 요청 시작부터 호출자가 스트림을 닫을 때까지이므로 호출자의 처리 시간이 포함됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StorageMetrics {
+
+    private static final String SUCCESS = "success";
+    private static final String ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 업로드 한 건을 측정합니다. 원본 스트림을 읽은 바이트 수를 세는 스트림으로 감싸 전달합니다.
+     *
+     * @param provider 스토리지 구현체 (s3, filesystem)
+     * @param operation 전송 종류 (upload, upload_part)
+     * @param content 원본 스트림
+     * @param transfer 감싼 스트림으로 실제 업로드를 수행하는 작업
+     */
+    public void upload(String provider, String operation, InputStream content, Transfer transfer) throws IOException {
+        AtomicLong bytes = new AtomicLong();
+        long start = System.nanoTime();
+        String outcome = ERROR;
+        try {
+            transfer.run(new ProgressInputStream(content, bytes::addAndGet));
+            outcome = SUCCESS;
+        } finally {
+            record(provider, operation, outcome, System.nanoTime() - start, bytes.get());
+        }
+    }
+
+    /**
+     * 호출 스레드 밖에서 끝난 업로드 한 건을 기록합니다. (비동기 전송)
+     *
+     * @param start 요청을 시작한 시각 (System.nanoTime)
+     * @param bytes 업로드한 원본 바이트 수
+     */
+    public void uploaded(String provider, String operation, long start, long bytes, boolean success) {
+        record(provider, operation, success ? SUCCESS : ERROR, System.nanoTime() - start, success ? bytes : 0);
+    }
+
+    /**
+     * 다운로드 스트림을 감싸 닫힐 때 한 건으로 기록합니다. 읽기 중 예외가 있었으면 error로 기록합니다.
+     *
+     * @param start 요청을 시작한 시각 (System.nanoTime)
+     */
+    public InputStream download(String provider, String operation, long start, InputStream stream) {
+        return new MeteredInputStream(stream, provider, operation, start);
+    }
+
+    // 다운로드 스트림을 얻기 전에 실패한 요청
+    public void downloadFailed(String provider, String operation, long start) {
+        record(provider, operation, ERROR, System.nanoTime() - start, 0);
+    }
+
+    private void record(String provider, String operation, String outcome, long nanos, long bytes) {
+        Timer.builder("coupon.storage.transfer")
+                .description("Storage transfer duration")
+                .tags("provider", provider, "operation", operation, "outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder("coupon.storage.transfer.bytes")
+                .description("Bytes per storage transfer")
+                .baseUnit("bytes")
+                .tags("provider", provider, "operation", operation, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(bytes);
+
+        if (SUCCESS.equals(outcome) && bytes > 0 && nanos > 0) {
+            DistributionSummary.builder("coupon.storage.throughput")
+                    .description("Throughput per successful storage transfer")
+                    .baseUnit("bytes.per.second")
+                    .tags("provider", provider, "operation", operation)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry)
+                    .record(bytes * 1_000_000_000.0 / nanos);
+        }
+    }
+
+    /**
+     * 측정 대상 업로드 작업.
+     */
+    @FunctionalInterface
+    public interface Transfer {
+        void run(InputStream content) throws IOException;
+    }
+
+    /**
+     * 읽은 바이트 수를 세고 닫힐 때 한 번 기록하는 다운로드 스트림.
+     */
+    private final class MeteredInputStream extends FilterInputStream {
+
+        private final String provider;
+        private final String operation;
+        private final long start;
+        private long bytes;
+        private boolean failed;
+        private boolean recorded;
+
+        private MeteredInputStream(InputStream in, String provider, String operation, long start) {
+            super(in);
+            this.provider = provider;
+            this.operation = operation;
+            this.start = start;
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                int b = in.read();
+                if (b != -1) {
+                    bytes++;
+                }
+                return b;
+            } catch (IOException e) {
+                failed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            try {
+                int n = in.read(b, off, len);
+                if (n > 0) {
+                    bytes += n;
+                }
+                return n;
+            } catch (IOException e) {
+                failed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = in.skip(n);
+            bytes += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                in.close();
+            } finally {
+                if (!recorded) {
+                    recorded = true;
+                    record(provider, operation, failed ? ERROR : SUCCESS, System.nanoTime() - start, bytes);
+                }
+            }
+        }
+    }
+}
@@ -18,6 +18,74 @@ public interface StorageService {
      */
     void uploadFile(String key, InputStream content, long size, String contentType) throws IOException;
 
+    /**
+     * 파일을 지정한 저장 인코딩으로 변환하며 스토리지에 업로드합니다. (읽는 만큼 압축하며 전체를 메모리에 모으지 않음)
+     * 압축 후 크기는 미리 알 수 없으므로 size는 원본 크기이며, 구현체는 업로드 방식과 파트 크기 결정에만 사용합니다.
+     * 압축된 객체는 Content-Encoding 메타데이터와 함께 저장해야 합니다. (Pre-signed URL 다운로드 시 원본으로 해제되도록)
+     *
+     * @param key 스토리지 내 파일 경로/키
+     * @param content 원본 파일 내용 스트림
+     * @param size 원본 파일 크기 (bytes)
+     * @param contentType 원본 파일 MIME 타입
+     * @param encoding 저장 인코딩 (IDENTITY면 uploadFile과 동일)
+     * @throws IOException 업로드 실패 시
+     */
+    void uploadFile(String key, InputStream content, long size, String contentType, StorageEncoding encoding) throws IOException;
+
+    /**
+     * 파일을 여러 파트로 나누어 병렬로 업로드합니다.
+     * 구현체는 설정된 임계값 이상의 파일에 대해 uploadFile에서 이 방식으로 자동 전환할 수 있습니다.
+     * 파트 단위로 재시도하며, 최종 실패 시 이미 올라간 파트를 정리(abort)합니다.
+     *
+     * @param key 스토리지 내 파일 경로/키
+     * @param content 파일 내용 스트림
+     * @param size 파일 크기 (bytes)
+     * @param contentType 파일 MIME 타입
+     * @throws IOException 업로드 실패 시
+     */
+    void uploadFileMultipart(String key, InputStream content, long size, String contentType) throws IOException;
+
+    /**
+     * 클라이언트가 조각(chunk) 단위로 보내는 재개 가능한 업로드 세션을 시작합니다.
+     * 구현체는 S3 멀티파트 업로드처럼 조각을 서버 메모리에 모으지 않고 스토리지에 바로 저장해야 합니다.
+     *
+     * @param key 스토리지 내 파일 경로/키
+     * @param contentType 파일 MIME 타입
+     * @return 업로드 세션 ID
+     * @throws IOException 세션 생성 실패 시
+     */
+    String createMultipartUpload(String key, String contentType) throws IOException;
+
+    /**
+     * 업로드 세션에 조각 하나를 저장합니다. 같은 번호로 다시 보내면 이전 조각을 덮어씁니다.
+     *
+     * @param key 스토리지 내 파일 경로/키
+     * @param uploadId 업로드 세션 ID
+     * @param partNumber 조각 번호 (1부터)
+     * @param content 조각 내용 스트림
+     * @param size 조각 크기 (bytes)
+     * @throws IOException 저장 실패 시
+     */
+    void uploadMultipartPart(String key, String uploadId, int partNumber, InputStream content, long size) throws IOException;
+
+    /**
+     * 저장된 조각들을 번호 순서대로 이어 붙여 하나의 파일로 완성합니다.
+     *
+     * @param key 스토리지 내 파일 경로/키
+     * @param uploadId 업로드 세션 ID
+     * @throws IOException 완료 실패 시
+     */
+    void completeMultipartUpload(String key, String uploadId) throws IOException;
+
+    /**
+     * 업로드 세션을 취소하고 저장된 조각을 삭제합니다.
+     *
+     * @param key 스토리지 내 파일 경로/키
+     * @param uploadId 업로드 세션 ID
+     * @throws IOException 취소 실패 시
+     */
+    void abortMultipartUpload(String key, String uploadId) throws IOException;
+
     /**
      * 스토리지에서 파일을 다운로드합니다.
      *
@@ -27,6 +95,30 @@ public interface StorageService {
      */
     InputStream downloadFile(String key) throws IOException;
 
+    /**
+     * 지정한 저장 인코딩으로 저장된 파일을 읽는 만큼 원본으로 해제하며 다운로드합니다.
+     *
+     * @param key 스토리지 내 파일 경로/키
+     * @param encoding 객체의 저장 인코딩 (UploadFile에 기록된 값)
+     * @return 원본 파일 내용 스트림
+     * @throws IOException 다운로드 실패 시
+     */
+    default InputStream downloadFile(String key, StorageEncoding encoding) throws IOException {
+        return encoding.decode(downloadFile(key));
+    }
+
+    /**
+     * 스토리지에서 파일의 일부 구간만 다운로드합니다. (병렬 검증 등)
+     * 저장된 바이트 그대로의 구간이므로 압축 저장된 객체에는 사용할 수 없습니다.
+     *
+     * @param key 스토리지 내 파일 경로/키
+     * @param start 시작 오프셋 (포함)
+     * @param end 끝 오프셋 (제외)
+     * @return 해당 구간의 내용 스트림
+     * @throws IOException 다운로드 실패 시
+     */
+    InputStream downloadFileRange(String key, long start, long end) throws IOException;
+
     /**
      * 파일 다운로드를 위한 임시 서명된 URL을 생성합니다.
      *
@@ -36,4 +128,25 @@ public interface StorageService {
      * @throws IOException URL 생성 실패 시
      */
     String generatePresignedUrl(String key, Duration expiration) throws IOException;
+
+    /**
+     * 클라이언트가 스토리지에 직접 업로드(PUT)할 수 있는 임시 서명된 URL을 생성합니다.
+     * 클라이언트는 PUT 요청 시 동일한 Content-Type 헤더를 보내야 합니다.
+     *
+     * @param key 스토리지 내 파일 경로/키
+     * @param contentType 업로드할 파일의 MIME 타입
+     * @param expiration URL 만료 시간
+     * @return 서명된 업로드 URL
+     * @throws IOException URL 생성 실패 시
+     */
+    String generatePresignedUploadUrl(String key, String contentType, Duration expiration) throws IOException;
+
+    /**
+     * 스토리지에 저장된 파일의 크기(압축 저장된 객체는 압축 후 크기)를 조회합니다.
+     *
+     * @param key 스토리지 내 파일 경로/키
+     * @return 파일 크기 (bytes)
+     * @throws IOException 파일이 없거나 조회 실패 시
+     */
+    long getFileSize(String key) throws IOException;
 }
@@ -0,0 +1,21 @@
+package com.example.coupon_admin.validator;
+
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 파일의 임의 바이트 구간을 비동기로 여는 입력 소스. (논블로킹 스토리지 Range GET)
+ * 요청은 호출 즉시 시작되고, 응답 헤더를 받으면 본문을 읽을 스트림으로 완료됩니다.
+ */
+@FunctionalInterface
+public interface AsyncByteRangeSource {
+
+    /**
+     * [start, end) 구간 요청을 시작합니다.
+     *
+     * @param start 시작 오프셋 (포함)
+     * @param end 끝 오프셋 (제외)
+     * @return 구간 본문 스트림 (실패 시 IOException으로 예외 완료)
+     */
+    CompletableFuture<InputStream> open(long start, long end);
+}
@@ -0,0 +1,19 @@
+package com.example.coupon_admin.validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 파일의 임의 바이트 구간을 읽을 수 있는 입력 소스. (스토리지 Range GET, 로컬 파일 등)
+ */
+@FunctionalInterface
+public interface ByteRangeSource {
+
+    /**
+     * [start, end) 구간을 읽는 스트림을 엽니다.
+     *
+     * @param start 시작 오프셋 (포함)
+     * @param end 끝 오프셋 (제외)
+     */
+    InputStream open(long start, long end) throws IOException;
+}
@@ -0,0 +1,150 @@
+package com.example.coupon_admin.validator;
+
+import com.example.coupon_admin.global.io.ExpansionLimitInputStream;
+import com.example.coupon_admin.global.io.ProgressInputStream;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 압축된 업로드(.csv.gz, .gz, 단일 엔트리 .zip)를 읽는 만큼 해제하여 내부 검증 전략에 전달하는 데코레이터.
+ * 해제된 내용은 디스크나 힙에 모으지 않으며, 해제 비율이 max-ratio를 넘으면 압축 폭탄으로 보고 읽기를 중단합니다.
+ */
+public class CompressedFileValidator implements FileValidatorStrategy {
+
+    public enum Format {
+        GZIP, ZIP
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Format format;
+    private final FileValidatorStrategy delegate;
+    private final String entryExtension; // zip 엔트리가 가져야 하는 확장자 (예: ".csv")
+    private final long maxRatio;
+    private final long minBytes;
+
+    public CompressedFileValidator(Format format, FileValidatorStrategy delegate, String entryExtension,
+                                   long maxRatio, long minBytes) {
+        this.format = format;
+        this.delegate = delegate;
+        this.entryExtension = entryExtension;
+        this.maxRatio = maxRatio;
+        this.minBytes = minBytes;
+    }
+
+    @Override
+    public ValidationResult validate(InputStream inputStream) {
+        return validate(inputStream, rows -> { });
+    }
+
+    @Override
+    public ValidationResult validate(InputStream inputStream, LongConsumer rowProgress) {
+        InputStream decompressed;
+        try {
+            decompressed = decompress(inputStream);
+        } catch (IOException e) {
+            closeQuietly(inputStream);
+            return ValidationResult.failure("Error while reading compressed file: " + e.getMessage());
+        }
+        return delegate.validate(decompressed, rowProgress);
+    }
+
+    @Override
+    public void readCustomerIds(InputStream inputStream, CustomerIdSink sink) throws IOException {
+        InputStream decompressed;
+        try {
+            decompressed = decompress(inputStream);
+        } catch (IOException e) {
+            closeQuietly(inputStream);
+            throw e;
+        }
+        delegate.readCustomerIds(decompressed, sink);
+    }
+
+    private InputStream decompress(InputStream inputStream) throws IOException {
+        // 해제 비율 계산을 위해 실제로 읽어 들인 압축 바이트 수를 셈
+        LongAdder compressedBytes = new LongAdder();
+        InputStream counted = new ProgressInputStream(inputStream, compressedBytes::add);
+
+        InputStream inflated = switch (format) {
+            case GZIP -> new GZIPInputStream(counted, BUFFER_SIZE);
+            case ZIP -> openSingleEntry(new ZipInputStream(counted));
+        };
+        return new ExpansionLimitInputStream(inflated, compressedBytes::sum, maxRatio, minBytes);
+    }
+
+    // 첫 번째 파일 엔트리로 이동 (디렉터리 엔트리는 건너뜀)
+    private InputStream openSingleEntry(ZipInputStream zip) throws IOException {
+        ZipEntry entry = zip.getNextEntry();
+        while (entry != null && entry.isDirectory()) {
+            entry = zip.getNextEntry();
+        }
+        if (entry == null) {
+            throw new IOException("Zip file has no entries.");
+        }
+        if (!entry.getName().toLowerCase().endsWith(entryExtension)) {
+            throw new IOException("Zip entry must be a " + entryExtension + " file: " + entry.getName());
+        }
+        return new SingleEntryInputStream(zip);
+    }
+
+    private static void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * zip의 현재 엔트리만 읽는 스트림. 엔트리 끝에서 다음 파일 엔트리가 있으면 예외를 던집니다.
+     * (여러 엔트리 중 첫 번째만 검증하고 통과시키지 않도록)
+     */
+    private static final class SingleEntryInputStream extends FilterInputStream {
+
+        private final ZipInputStream zip;
+        private boolean checked;
+
+        private SingleEntryInputStream(ZipInputStream zip) {
+            super(zip);
+            this.zip = zip;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = zip.read();
+            if (b == -1) {
+                ensureNoMoreEntries();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = zip.read(b, off, len);
+            if (n == -1) {
+                ensureNoMoreEntries();
+            }
+            return n;
+        }
+
+        private void ensureNoMoreEntries() throws IOException {
+            if (checked) {
+                return;
+            }
+            checked = true;
+            ZipEntry next;
+            while ((next = zip.getNextEntry()) != null) {
+                if (!next.isDirectory()) {
+                    throw new IOException("Zip file must contain a single file. Found another entry: " + next.getName());
+                }
+            }
+        }
+    }
+}
@@ -2,33 +2,122 @@ package com.example.coupon_admin.validator;
 
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongConsumer;
 
 // CSV 파일 검증 전략
 @Component
 public class CsvFileValidator implements FileValidatorStrategy {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // 메모리 매핑 검증 시 한 번에 매핑하는 구간 크기 (구간마다 진행률 보고)
+    private static final long MAP_WINDOW_SIZE = 16L * 1024 * 1024;
+    private static final LongConsumer NO_PROGRESS = rows -> { };
+
     @Override
     public ValidationResult validate(InputStream inputStream) {
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-            // 1. 헤더 검증
-            String header = reader.readLine();
-            if (header == null || !header.trim().equals("customer_id")) {
-                return ValidationResult.failure("Invalid header. Expected 'customer_id'.");
-            }
+        return validate(inputStream, NO_PROGRESS);
+    }
 
-            // 2. 내용 비어있는지 검증
-            if (reader.readLine() == null) {
-                return ValidationResult.failure("File is empty.");
-            }
+    @Override
+    public ValidationResult validate(InputStream inputStream, LongConsumer rowProgress) {
+        // 하나의 재사용 버퍼로 전체 파일을 스트리밍하며 모든 행을 검증 (행마다 String을 만들지 않음)
+        CsvRowParser parser = new CsvRowParser(new RowErrorCollector(), new DuplicateDetector());
+
+        try (InputStream in = inputStream) {
+            parse(in, parser, rowProgress);
+            finish(parser, rowProgress);
+            return parser.result();
 
-            // 모든 검증 통과
-            return ValidationResult.success();
+        } catch (Exception e) {
+            return ValidationResult.failure("Error while reading CSV file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 로컬 파일(업로드 시 스풀된 임시 파일 등)을 메모리 매핑하여 검증합니다.
+     * 매핑된 페이지를 파서에 그대로 넘기므로 읽기 버퍼로의 복사나 문자열 디코딩이 없습니다.
+     *
+     * @param file 검증할 파일
+     * @param progress 구간을 처리할 때마다 처리한 바이트 수를 전달받는 리스너
+     */
+    public ValidationResult validate(Path file, LongConsumer progress) {
+        return validate(file, progress, NO_PROGRESS);
+    }
+
+    /**
+     * @param file 검증할 파일
+     * @param progress 구간을 처리할 때마다 처리한 바이트 수를 전달받는 리스너
+     * @param rowProgress 구간을 처리할 때마다 검증한 데이터 행 수(증분)를 전달받는 리스너
+     */
+    public ValidationResult validate(Path file, LongConsumer progress, LongConsumer rowProgress) {
+        CsvRowParser parser = new CsvRowParser(new RowErrorCollector(), new DuplicateDetector());
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size && !parser.isHeaderRejected(); position += MAP_WINDOW_SIZE) {
+                long length = Math.min(MAP_WINDOW_SIZE, size - position);
+                long rows = parser.getDataRows();
+                parser.feed(channel.map(FileChannel.MapMode.READ_ONLY, position, length));
+                progress.accept(length);
+                rowProgress.accept(parser.getDataRows() - rows);
+            }
+            finish(parser, rowProgress);
+            return parser.result();
 
         } catch (Exception e) {
             return ValidationResult.failure("Error while reading CSV file: " + e.getMessage());
         }
     }
+
+    @Override
+    public void readCustomerIds(InputStream inputStream, CustomerIdSink sink) throws IOException {
+        CsvRowParser parser = CsvRowParser.forExtraction(sink);
+
+        try (InputStream in = inputStream) {
+            parse(in, parser);
+            parser.finish();
+        }
+
+        // 검증 이후 객체가 바뀌었거나 검증을 거치지 않은 파일
+        if (parser.isHeaderRejected() || parser.getErrors().hasErrors() || parser.getDataRows() == 0) {
+            throw new IOException("CSV file is not a valid customer_id file.");
+        }
+    }
+
+    /**
+     * 스트림 끝까지 파서에 공급합니다. 헤더가 올바르지 않으면 나머지는 읽지 않습니다.
+     * 입력 끝 처리(finish)는 호출자가 합니다.
+     */
+    static void parse(InputStream in, CsvRowParser parser) throws IOException {
+        parse(in, parser, NO_PROGRESS);
+    }
+
+    // 버퍼마다 새로 완료된 데이터 행 수를 rowProgress에 알림
+    static void parse(InputStream in, CsvRowParser parser, LongConsumer rowProgress) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        ByteBuffer view = ByteBuffer.wrap(buffer);
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            long rows = parser.getDataRows();
+            view.clear().limit(read);
+            parser.feed(view);
+            rowProgress.accept(parser.getDataRows() - rows);
+            if (parser.isHeaderRejected()) {
+                break;
+            }
+        }
+    }
+
+    // 줄바꿈 없이 끝난 마지막 레코드는 finish에서 완료되므로 그 행도 알림
+    private static void finish(CsvRowParser parser, LongConsumer rowProgress) {
+        long rows = parser.getDataRows();
+        parser.finish();
+        rowProgress.accept(parser.getDataRows() - rows);
+    }
 }
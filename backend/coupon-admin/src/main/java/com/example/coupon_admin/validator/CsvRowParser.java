@@ -0,0 +1,336 @@
+package com.example.coupon_admin.validator;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * customer_id CSV를 바이트 단위로 검증하는 스트리밍 파서.
+ *
+ * 입력을 임의 크기의 조각(ByteBuffer)으로 나누어 feed할 수 있으며, 행마다 String을 만들지 않고
+ * 상태 머신으로 직접 숫자를 누적합니다. customer_id 문법은 ASCII만 사용하므로 UTF-8 디코딩 없이 바이트로 처리합니다.
+ *
+ * - 선택적 UTF-8 BOM, LF / CRLF / CR 줄바꿈
+ * - RFC 4180 따옴표 필드 (따옴표 안의 줄바꿈은 레코드를 끝내지 않음, "" 이스케이프)
+ * - 필드 앞뒤 공백/탭 허용
+ * - 빈 줄, 형식 오류, 18자리 초과, 추가 컬럼, 잘못된 따옴표를 행 오류로 기록
+ * - 올바른 customer_id는 DuplicateDetector로 전달하여 중복 탐지 (적재 시에는 임의의 CustomerIdSink로 전달)
+ *
+ * 병렬 검증 시에는 줄 경계에서 나눈 조각마다 헤더 없는 모드(expectHeader=false)로 인스턴스를 만들며,
+ * 이때 행 번호는 조각 안에서 1부터 시작하는 지역 번호입니다.
+ *
+ * 스레드 안전하지 않으며, 파일(또는 조각) 하나당 인스턴스 하나를 사용합니다.
+ */
+public final class CsvRowParser {
+
+    public static final String BLANK_LINE = "Blank line";
+    public static final String EMPTY_VALUE = "Empty customer_id";
+    public static final String INVALID_FORMAT = "Invalid customer_id format";
+    public static final String TOO_LONG = "customer_id exceeds " + CustomerIdFormat.MAX_DIGITS + " digits";
+    public static final String EXTRA_COLUMN = "Unexpected extra column";
+    public static final String MALFORMED_QUOTE = "Malformed quoted field";
+    public static final String UNTERMINATED_QUOTE = "Unterminated quoted field";
+
+    private static final byte[] BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private static final byte[] HEADER = CustomerIdFormat.HEADER.getBytes(StandardCharsets.US_ASCII);
+    private static final int MAX_HEADER_LENGTH = 64;
+
+    // 파서 상태
+    private static final int FIELD_START = 0;   // 필드 시작 (선행 공백 허용)
+    private static final int UNQUOTED = 1;      // 따옴표 없는 값
+    private static final int TRAILING = 2;      // 값 뒤 공백 (더 이상 값이 오면 안 됨)
+    private static final int QUOTED = 3;        // 따옴표 안
+    private static final int QUOTED_QUOTE = 4;  // 따옴표 안에서 " 를 만남 (닫힘 또는 "" 이스케이프)
+
+    private final RowErrorCollector errors;
+    private final DuplicateDetector duplicates;
+    private final CustomerIdSink sink;
+
+    private int bomMatched;
+    private boolean bomDone;
+    private boolean pendingCR;
+    private boolean headerDone;
+    private boolean headerValid;
+    private final byte[] headerBuffer = new byte[MAX_HEADER_LENGTH];
+    private int headerLength;
+
+    private long records;      // 완료된 레코드 수 (헤더 포함)
+    private long dataRows;     // 완료된 데이터 레코드 수
+    private boolean quoteSeen; // 따옴표 문자를 한 번이라도 만났는지 (병렬 검증의 구간 분할 가능 여부)
+
+    // 현재 레코드 상태
+    private int state = FIELD_START;
+    private boolean recordStarted;
+    private boolean quoted;
+    private int digits;
+    private long value;
+    private String recordError;
+
+    public CsvRowParser(RowErrorCollector errors, DuplicateDetector duplicates) {
+        this(errors, duplicates, true);
+    }
+
+    /**
+     * @param expectHeader false면 BOM과 헤더 없이 첫 바이트부터 데이터 레코드로 해석 (파일 중간 조각용)
+     */
+    public CsvRowParser(RowErrorCollector errors, DuplicateDetector duplicates, boolean expectHeader) {
+        this(errors, duplicates, duplicates, expectHeader);
+    }
+
+    private CsvRowParser(RowErrorCollector errors, DuplicateDetector duplicates, CustomerIdSink sink, boolean expectHeader) {
+        this.errors = errors;
+        this.duplicates = duplicates;
+        this.sink = sink;
+        if (!expectHeader) {
+            this.bomDone = true;
+            this.headerDone = true;
+            this.headerValid = true;
+        }
+    }
+
+    /**
+     * 검증이 끝난 파일에서 customer_id만 읽어 내기 위한 파서를 만듭니다.
+     * 중복 탐지를 하지 않으며 {@link #result()} 대신 {@link #getErrors()}로 형식 오류 여부를 확인합니다.
+     */
+    public static CsvRowParser forExtraction(CustomerIdSink sink) {
+        return new CsvRowParser(new RowErrorCollector(), null, sink, true);
+    }
+
+    /**
+     * 버퍼의 position부터 limit까지 처리하고 position을 limit으로 옮깁니다.
+     */
+    public void feed(ByteBuffer buffer) {
+        int end = buffer.limit();
+        for (int i = buffer.position(); i < end; i++) {
+            if (isHeaderRejected()) {
+                break;
+            }
+            accept(buffer.get(i));
+        }
+        buffer.position(end);
+    }
+
+    /**
+     * 입력 끝을 알립니다. 줄바꿈 없이 끝난 마지막 레코드를 마무리합니다.
+     */
+    public void finish() {
+        if (state == QUOTED) {
+            markError(UNTERMINATED_QUOTE);
+        }
+        if (recordStarted) {
+            endRecord();
+        }
+    }
+
+    // 첫 레코드가 헤더가 아니면 더 읽을 필요가 없음
+    public boolean isHeaderRejected() {
+        return headerDone && !headerValid;
+    }
+
+    public long getDataRows() {
+        return dataRows;
+    }
+
+    // 헤더를 포함한 완료된 레코드 수
+    public long getRecords() {
+        return records;
+    }
+
+    public RowErrorCollector getErrors() {
+        return errors;
+    }
+
+    // 따옴표 필드가 있었는지 여부 (따옴표 안 줄바꿈이 있을 수 있으므로 LF 기준 구간 분할을 신뢰할 수 없음)
+    public boolean isQuoteSeen() {
+        return quoteSeen;
+    }
+
+    public ValidationResult result() {
+        if (!headerDone || !headerValid) {
+            return ValidationResult.failure("Invalid header. Expected 'customer_id'.");
+        }
+        if (dataRows == 0) {
+            return ValidationResult.failure("File is empty.");
+        }
+        return ValidationResult.ofRows(dataRows, errors, duplicates);
+    }
+
+    private void accept(byte b) {
+        if (!bomDone && skipBom(b)) {
+            return;
+        }
+
+        // 따옴표 밖의 줄바꿈은 레코드 종료 (CRLF의 LF는 건너뜀)
+        if (state != QUOTED && (b == '\n' || b == '\r')) {
+            if (b == '\n' && pendingCR) {
+                pendingCR = false;
+                return;
+            }
+            pendingCR = b == '\r';
+            endRecord();
+            return;
+        }
+        pendingCR = false;
+        recordStarted = true;
+        if (b == '"') {
+            quoteSeen = true;
+        }
+
+        if (!headerDone && headerLength < MAX_HEADER_LENGTH) {
+            headerBuffer[headerLength++] = b;
+        }
+
+        switch (state) {
+            case FIELD_START -> {
+                if (b == '"') {
+                    quoted = true;
+                    state = QUOTED;
+                } else if (isDigit(b)) {
+                    appendDigit(b);
+                    state = UNQUOTED;
+                } else if (b == ',') {
+                    markError(EXTRA_COLUMN);
+                } else if (!isBlank(b)) {
+                    markError(INVALID_FORMAT);
+                    state = UNQUOTED;
+                }
+            }
+            case UNQUOTED -> {
+                if (isDigit(b)) {
+                    appendDigit(b);
+                } else if (isBlank(b)) {
+                    state = TRAILING;
+                } else if (b == ',') {
+                    markError(EXTRA_COLUMN);
+                    state = FIELD_START;
+                } else {
+                    markError(b == '"' ? MALFORMED_QUOTE : INVALID_FORMAT);
+                }
+            }
+            case TRAILING -> {
+                if (b == ',') {
+                    markError(EXTRA_COLUMN);
+                    state = FIELD_START;
+                } else if (!isBlank(b)) {
+                    markError(INVALID_FORMAT);
+                }
+            }
+            case QUOTED -> {
+                if (b == '"') {
+                    state = QUOTED_QUOTE;
+                } else if (isDigit(b)) {
+                    appendDigit(b);
+                } else {
+                    markError(INVALID_FORMAT);
+                }
+            }
+            case QUOTED_QUOTE -> {
+                if (b == '"') {
+                    // "" 이스케이프: 값에 따옴표 문자가 포함됨
+                    markError(INVALID_FORMAT);
+                    state = QUOTED;
+                } else if (b == ',') {
+                    markError(EXTRA_COLUMN);
+                    state = FIELD_START;
+                } else {
+                    if (!isBlank(b)) {
+                        markError(MALFORMED_QUOTE);
+                    }
+                    state = TRAILING;
+                }
+            }
+            default -> throw new IllegalStateException("Unknown parser state: " + state);
+        }
+    }
+
+    private boolean skipBom(byte b) {
+        if (b == BOM[bomMatched]) {
+            if (++bomMatched == BOM.length) {
+                bomDone = true;
+            }
+            return true;
+        }
+        bomDone = true;
+        if (bomMatched > 0) {
+            // BOM 일부만 있는 경우: 유효한 UTF-8 시작이 아님
+            recordStarted = true;
+            markError(INVALID_FORMAT);
+        }
+        return false;
+    }
+
+    private void endRecord() {
+        records++;
+
+        if (!headerDone) {
+            headerDone = true;
+            headerValid = isHeader();
+        } else {
+            dataRows++;
+            if (!recordStarted) {
+                errors.add(records, BLANK_LINE);
+            } else if (recordError != null) {
+                errors.add(records, recordError);
+            } else if (digits == 0) {
+                errors.add(records, quoted ? EMPTY_VALUE : BLANK_LINE);
+            } else {
+                sink.accept(records, value);
+            }
+        }
+
+        state = FIELD_START;
+        recordStarted = false;
+        quoted = false;
+        digits = 0;
+        value = 0;
+        recordError = null;
+    }
+
+    // 앞뒤 공백과 한 쌍의 따옴표를 제거한 뒤 "customer_id"와 비교
+    private boolean isHeader() {
+        int start = 0;
+        int end = headerLength;
+        while (start < end && isBlank(headerBuffer[start])) {
+            start++;
+        }
+        while (end > start && isBlank(headerBuffer[end - 1])) {
+            end--;
+        }
+        if (end - start >= 2 && headerBuffer[start] == '"' && headerBuffer[end - 1] == '"') {
+            start++;
+            end--;
+        }
+        if (end - start != HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length; i++) {
+            if (headerBuffer[start + i] != HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void appendDigit(byte b) {
+        if (digits == CustomerIdFormat.MAX_DIGITS) {
+            markError(TOO_LONG);
+            return;
+        }
+        value = value * 10 + (b - '0');
+        digits++;
+    }
+
+    // 레코드의 첫 번째 오류만 기록
+    private void markError(String reason) {
+        if (recordError == null) {
+            recordError = reason;
+        }
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t';
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.coupon_admin.validator;
+
+/**
+ * customer_id 값의 형식 규칙.
+ * customer_id는 앞뒤 공백을 제외하고 1~18자리 숫자로만 구성된 정수입니다. (long 범위 내)
+ */
+public final class CustomerIdFormat {
+
+    public static final String HEADER = "customer_id";
+    public static final int MAX_DIGITS = 18;
+
+    // 형식이 올바르지 않은 경우 parse가 반환하는 값
+    public static final long INVALID = -1L;
+
+    private CustomerIdFormat() {
+    }
+
+    /**
+     * 문자열을 customer_id로 해석합니다.
+     *
+     * @param value 셀 또는 필드 값
+     * @return customer_id 값, 형식이 올바르지 않으면 {@link #INVALID}
+     */
+    public static long parse(CharSequence value) {
+        if (value == null) {
+            return INVALID;
+        }
+        int start = 0;
+        int end = value.length();
+        while (start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end || end - start > MAX_DIGITS) {
+            return INVALID;
+        }
+
+        long id = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALID;
+            }
+            id = id * 10 + (c - '0');
+        }
+        return id;
+    }
+
+    public static boolean isHeader(CharSequence value) {
+        return value != null && value.toString().trim().equals(HEADER);
+    }
+}
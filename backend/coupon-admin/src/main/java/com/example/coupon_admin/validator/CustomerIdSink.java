@@ -0,0 +1,15 @@
+package com.example.coupon_admin.validator;
+
+/**
+ * 파서가 형식 검증을 통과한 customer_id를 행 순서대로 전달받는 콜백.
+ * 중복 탐지(DuplicateDetector), DB 적재 등 ID를 소비하는 쪽이 구현합니다.
+ */
+@FunctionalInterface
+public interface CustomerIdSink {
+
+    /**
+     * @param row 행 번호 (헤더 = 1)
+     * @param customerId customer_id 값
+     */
+    void accept(long row, long customerId);
+}
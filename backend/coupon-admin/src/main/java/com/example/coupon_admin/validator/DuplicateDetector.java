@@ -0,0 +1,114 @@
+package com.example.coupon_admin.validator;
+
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * customer_id 중복을 탐지합니다.
+ *
+ * 박싱된 Long을 담는 HashSet 대신 압축 비트맵(Roaring64Bitmap)에 본 ID를 기록하므로,
+ * 연속적이거나 밀집된 숫자 ID는 값당 수 바이트 이하로 저장됩니다.
+ * 매우 희소한 ID 분포로 비트맵이 메모리 한도를 넘으면 새 ID 기록을 멈추고(이미 본 ID에 대한 중복 탐지는 유지)
+ * {@link #isTruncated()}로 결과가 부분적임을 알립니다.
+ */
+public class DuplicateDetector implements CustomerIdSink {
+
+    public static final int DEFAULT_MAX_SAMPLES = 20;
+    public static final long DEFAULT_MEMORY_LIMIT_BYTES = 128L * 1024 * 1024;
+
+    // 메모리 사용량 계산 비용이 있으므로 일정 개수마다만 확인
+    private static final int MEMORY_CHECK_INTERVAL = 1 << 16;
+
+    private final Roaring64Bitmap seen = new Roaring64Bitmap();
+    private final int maxSamples;
+    private final long memoryLimitBytes;
+    private final List<ValidationResult.DuplicateRow> samples = new ArrayList<>();
+    private long duplicateCount;
+    private long addedSinceCheck;
+    private boolean truncated;
+
+    public DuplicateDetector() {
+        this(DEFAULT_MAX_SAMPLES, DEFAULT_MEMORY_LIMIT_BYTES);
+    }
+
+    public DuplicateDetector(int maxSamples, long memoryLimitBytes) {
+        this.maxSamples = maxSamples;
+        this.memoryLimitBytes = memoryLimitBytes;
+    }
+
+    /**
+     * 검증을 통과한 customer_id를 기록합니다.
+     *
+     * @param row 행 번호 (헤더 = 1)
+     * @param customerId customer_id 값
+     * @return 이전에 본 ID이면 true
+     */
+    public boolean add(long row, long customerId) {
+        if (seen.contains(customerId)) {
+            duplicateCount++;
+            if (samples.size() < maxSamples) {
+                samples.add(new ValidationResult.DuplicateRow(row, customerId));
+            }
+            return true;
+        }
+        if (!truncated) {
+            seen.addLong(customerId);
+            if (++addedSinceCheck == MEMORY_CHECK_INTERVAL) {
+                addedSinceCheck = 0;
+                truncated = seen.getLongSizeInBytes() > memoryLimitBytes;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void accept(long row, long customerId) {
+        add(row, customerId);
+    }
+
+    /**
+     * 다른 탐지기(파일의 뒤쪽 조각)의 결과를 이어 붙입니다.
+     * 조각 내부의 중복은 그대로 더하고, 앞쪽 조각에서 이미 본 ID가 뒤쪽 조각에 처음 나타난 경우도 중복으로 셉니다.
+     * 조각 간 중복은 ID 집합만으로 계산하므로 행 번호 샘플은 남지 않습니다.
+     * 합친 결과가 메모리 한도를 넘으면 이후 조각의 ID는 더 기록하지 않습니다. (truncated)
+     *
+     * @param other 뒤쪽 조각의 탐지기
+     * @param rowOffset 조각의 지역 행 번호를 전체 행 번호로 바꾸기 위해 더할 값
+     */
+    public void merge(DuplicateDetector other, long rowOffset) {
+        for (LongIterator ids = other.seen.getLongIterator(); ids.hasNext(); ) {
+            if (seen.contains(ids.next())) {
+                duplicateCount++;
+            }
+        }
+        if (!truncated) {
+            seen.or(other.seen);
+            truncated = seen.getLongSizeInBytes() > memoryLimitBytes;
+        }
+
+        duplicateCount += other.duplicateCount;
+        for (ValidationResult.DuplicateRow sample : other.samples) {
+            if (samples.size() >= maxSamples) {
+                break;
+            }
+            samples.add(new ValidationResult.DuplicateRow(sample.getRow() + rowOffset, sample.getCustomerId()));
+        }
+        truncated |= other.truncated;
+    }
+
+    public long getDuplicateCount() {
+        return duplicateCount;
+    }
+
+    public List<ValidationResult.DuplicateRow> getSamples() {
+        return Collections.unmodifiableList(samples);
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -1,60 +1,305 @@
 package com.example.coupon_admin.validator;
 
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
 import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.function.LongConsumer;
 
 /**
  * Excel 파일 검증 전략 (.xlsx)
+ *
+ * XSSFWorkbook(DOM) 대신 POI 이벤트 API(XSSFReader + XSSFSheetXMLHandler)로 첫 번째 시트를 SAX 방식으로 읽어
+ * 행 수와 무관하게 일정한 메모리로 모든 행을 검증합니다.
+ * OPCPackage.open(InputStream)은 zip 엔트리 전체를 메모리에 올리므로, 입력은 임시 파일로 내려받은 뒤 파일 기반으로 엽니다.
  */
 @Component
 public class ExcelFileValidator implements FileValidatorStrategy {
 
+    // 행 진행률을 알리는 간격 (행마다 알리면 리스너 호출 비용이 검증 비용을 넘어섬)
+    private static final int ROW_PROGRESS_INTERVAL = 1024;
+
     @Override
     public ValidationResult validate(InputStream inputStream) {
-        try (Workbook workbook = new XSSFWorkbook(inputStream)) {
-            // 1. 시트 개수 확인
-            if (workbook.getNumberOfSheets() == 0) {
+        return validate(inputStream, rows -> { });
+    }
+
+    @Override
+    public ValidationResult validate(InputStream inputStream, LongConsumer rowProgress) {
+        DuplicateDetector duplicates = new DuplicateDetector();
+        RowValidationHandler rowHandler = new RowValidationHandler(duplicates, rowProgress);
+        try (InputStream in = inputStream) {
+            if (!readFirstSheet(in, rowHandler)) {
                 return ValidationResult.failure("Excel file has no sheets.");
             }
+            return rowHandler.result(duplicates);
 
-            // 2. 첫 번째 시트 가져오기
-            Sheet sheet = workbook.getSheetAt(0);
-            if (sheet == null || sheet.getPhysicalNumberOfRows() == 0) {
-                return ValidationResult.failure("Excel sheet is empty.");
+        } catch (Exception e) {
+            return ValidationResult.failure("Error while reading Excel file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 로컬 파일(업로드 시 스풀된 임시 파일 등)을 임시 파일로 다시 복사하지 않고 바로 열어 검증합니다.
+     *
+     * @param file 검증할 xlsx 파일
+     * @param rowProgress 검증한 데이터 행 수(증분)를 전달받는 리스너
+     */
+    public ValidationResult validate(Path file, LongConsumer rowProgress) {
+        DuplicateDetector duplicates = new DuplicateDetector();
+        RowValidationHandler rowHandler = new RowValidationHandler(duplicates, rowProgress);
+        try {
+            if (!readFirstSheet(file, rowHandler)) {
+                return ValidationResult.failure("Excel file has no sheets.");
+            }
+            return rowHandler.result(duplicates);
+
+        } catch (Exception e) {
+            return ValidationResult.failure("Error while reading Excel file: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void readCustomerIds(InputStream inputStream, CustomerIdSink sink) throws IOException {
+        RowValidationHandler rowHandler = new RowValidationHandler(sink, rows -> { });
+        try {
+            if (!readFirstSheet(inputStream, rowHandler)) {
+                throw new IOException("Excel file has no sheets.");
+            }
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Error while reading Excel file: " + e.getMessage(), e);
+        }
+
+        // 검증 이후 객체가 바뀌었거나 검증을 거치지 않은 파일
+        ValidationResult result = rowHandler.result(new DuplicateDetector());
+        if (!result.isValid()) {
+            throw new IOException(result.getErrorMessage());
+        }
+    }
+
+    /**
+     * 입력을 임시 파일로 내려받아 첫 번째 시트를 SAX로 스트리밍하며 rowHandler에 전달합니다.
+     *
+     * @return 시트가 하나도 없으면 false
+     */
+    private boolean readFirstSheet(InputStream inputStream, RowValidationHandler rowHandler) throws Exception {
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile("coupon-validate-", ".xlsx");
+            Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            return readFirstSheet(tempFile, rowHandler);
+
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    private boolean readFirstSheet(Path file, RowValidationHandler rowHandler) throws Exception {
+        OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ);
+        try {
+            return readFirstSheet(pkg, rowHandler);
+        } finally {
+            pkg.revert(); // 읽기 전용 패키지는 저장 없이 닫음
+        }
+    }
+
+    private boolean readFirstSheet(OPCPackage pkg, RowValidationHandler rowHandler) throws Exception {
+        XSSFReader reader = new XSSFReader(pkg);
+
+        // 1. 시트 개수 확인
+        Iterator<InputStream> sheets = reader.getSheetsData();
+        if (!sheets.hasNext()) {
+            return false;
+        }
+
+        // 2. 첫 번째 시트를 SAX로 스트리밍하며 행 단위 검증
+        XSSFSheetXMLHandler sheetHandler = new XSSFSheetXMLHandler(
+                reader.getStylesTable(),
+                new ReadOnlySharedStringsTable(pkg),
+                rowHandler,
+                new RawNumberFormatter(),
+                false
+        );
+
+        XMLReader parser = XMLHelper.newXMLReader();
+        parser.setContentHandler(sheetHandler);
+        try (InputStream sheet = sheets.next()) {
+            parser.parse(new InputSource(sheet));
+        } catch (RuntimeException | SAXException e) {
+            // 헤더 오류로 파싱을 중단한 경우 (파서에 따라 SAXException으로 감싸질 수 있음)
+            if (!rowHandler.isHeaderRejected()) {
+                throw e;
+            }
+        }
+        rowHandler.reportRemainingRows();
+        return true;
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (Exception ignored) {
+            // 임시 파일 삭제 실패는 검증 결과에 영향 없음
+        }
+    }
+
+    /**
+     * 각 행의 첫 번째 열(A)을 검증하는 SAX 콜백.
+     * 0번 행은 헤더, 이후 행은 customer_id 값이어야 합니다.
+     * 헤더 오류는 즉시 파싱을 중단하고, 데이터 행 오류는 모두 세되 위치는 처음 N개까지 수집합니다.
+     */
+    private static final class RowValidationHandler implements SheetContentsHandler {
+
+        private static final String INVALID_CUSTOMER_ID = "Invalid customer_id format";
+        private static final String MISSING_CUSTOMER_ID = "Missing customer_id";
+
+        private final RowErrorCollector errors = new RowErrorCollector();
+        private final CustomerIdSink sink;
+        private final LongConsumer rowProgress;
+        private int currentRow = -1;
+        private boolean firstColumnSeen;
+        private long dataRows;
+        private long reportedRows;
+        private boolean headerSeen;
+        private String headerError;
+
+        private RowValidationHandler(CustomerIdSink sink, LongConsumer rowProgress) {
+            this.sink = sink;
+            this.rowProgress = rowProgress;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            currentRow = rowNum;
+            firstColumnSeen = false;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            if (!isFirstColumn(cellReference)) {
+                return;
             }
+            firstColumnSeen = true;
 
-            // 3. 헤더 행 검증
-            Row headerRow = sheet.getRow(0);
-            if (headerRow == null) {
-                return ValidationResult.failure("Header row is missing.");
+            if (!headerSeen) {
+                // 3. 헤더 행 검증 (헤더 위에 다른 행이 있으면 안 됨)
+                if (currentRow != 0 || !CustomerIdFormat.isHeader(formattedValue)) {
+                    rejectHeader("Invalid header. Expected 'customer_id'.");
+                }
+                headerSeen = true;
+                return;
             }
 
-            Cell firstCell = headerRow.getCell(0);
-            if (firstCell == null) {
-                return ValidationResult.failure("Header cell is missing.");
+            // 4. 데이터 행 검증 및 중복 탐지
+            long customerId = CustomerIdFormat.parse(formattedValue);
+            if (customerId == CustomerIdFormat.INVALID) {
+                errors.add(currentRow + 1, INVALID_CUSTOMER_ID);
+            } else {
+                sink.accept(currentRow + 1, customerId);
             }
+        }
 
-            String headerValue = firstCell.getStringCellValue();
-            if (headerValue == null || !headerValue.trim().equals("customer_id")) {
-                return ValidationResult.failure("Invalid header. Expected 'customer_id'.");
+        @Override
+        public void endRow(int rowNum) {
+            if (!headerSeen) {
+                if (!firstColumnSeen) {
+                    rejectHeader("Header cell is missing.");
+                }
+                return;
+            }
+            if (rowNum == 0) {
+                return; // 헤더 행
             }
+            dataRows++;
+            if (!firstColumnSeen) {
+                errors.add(rowNum + 1, MISSING_CUSTOMER_ID);
+            }
+            if (dataRows - reportedRows >= ROW_PROGRESS_INTERVAL) {
+                reportRemainingRows();
+            }
+        }
 
-            // 4. 데이터 행 존재 여부 확인
-            if (sheet.getPhysicalNumberOfRows() < 2) {
+        // 아직 알리지 않은 행 수를 알림 (시트 끝에서 간격보다 적게 남은 행 포함)
+        void reportRemainingRows() {
+            if (dataRows > reportedRows) {
+                rowProgress.accept(dataRows - reportedRows);
+                reportedRows = dataRows;
+            }
+        }
+
+        boolean isHeaderRejected() {
+            return headerError != null;
+        }
+
+        ValidationResult result(DuplicateDetector duplicates) {
+            if (headerError != null) {
+                return ValidationResult.failure(headerError);
+            }
+            if (!headerSeen) {
+                return ValidationResult.failure("Excel sheet is empty.");
+            }
+            if (dataRows == 0) {
                 return ValidationResult.failure("File is empty.");
             }
+            return ValidationResult.ofRows(dataRows, errors, duplicates);
+        }
 
-            // 모든 검증 통과
-            return ValidationResult.success();
+        private void rejectHeader(String message) {
+            headerError = message;
+            throw new StopParsingException();
+        }
 
-        } catch (Exception e) {
-            return ValidationResult.failure("Error while reading Excel file: " + e.getMessage());
+        // "A1", "A1048576" 형태만 첫 번째 열 (셀 참조가 없으면 열 위치를 알 수 없으므로 첫 열로 간주하지 않음)
+        private static boolean isFirstColumn(String cellReference) {
+            return cellReference != null
+                    && cellReference.length() > 1
+                    && cellReference.charAt(0) == 'A'
+                    && Character.isDigit(cellReference.charAt(1));
+        }
+    }
+
+    /**
+     * 정수 값 셀을 지수 표기(1.23457E+11) 없이 그대로 문자열로 변환합니다.
+     * 기본 "General" 서식은 11자리 이상 숫자를 지수 표기로 바꾸어 customer_id 검증이 실패하기 때문입니다.
+     */
+    private static final class RawNumberFormatter extends DataFormatter {
+
+        private static final double MAX_EXACT_INTEGER = 1e15;
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString) {
+            if (value == Math.rint(value) && Math.abs(value) < MAX_EXACT_INTEGER) {
+                return Long.toString((long) value);
+            }
+            return super.formatRawCellContents(value, formatIndex, formatString);
+        }
+    }
+
+    // 헤더 오류 시 SAX 파싱을 조기 종료하기 위한 내부 신호 (스택 트레이스 불필요)
+    private static final class StopParsingException extends RuntimeException {
+        StopParsingException() {
+            super(null, null, false, false);
         }
     }
 }
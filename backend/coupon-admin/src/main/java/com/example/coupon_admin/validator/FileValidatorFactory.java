@@ -1,7 +1,10 @@
 package com.example.coupon_admin.validator;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
 // 파일 확장자에 따라 적절한 검증 전략을 반환하는 팩토리
 @Component
@@ -11,8 +14,30 @@ public class FileValidatorFactory {
     private final CsvFileValidator csvFileValidator;
     private final ExcelFileValidator excelFileValidator;
 
+    // 압축 해제 시 허용하는 최대 해제 비율 (해제 크기 / 압축 크기)
+    @Value("${app.validation.decompression.max-ratio:100}")
+    private long maxExpansionRatio;
+
+    // 해제 크기가 이보다 작으면 비율을 검사하지 않음 (작은 파일은 비율이 높게 나올 수 있음)
+    @Value("${app.validation.decompression.min-checked-size:1MB}")
+    private DataSize minCheckedSize;
+
+    // 같은 형식에는 항상 같은 인스턴스를 반환 (검증 전략이 같은지를 인스턴스로 비교하는 곳이 있음)
+    private CompressedFileValidator gzipCsvValidator;
+    private CompressedFileValidator zipCsvValidator;
+
+    @PostConstruct
+    void initCompressedValidators() {
+        gzipCsvValidator = new CompressedFileValidator(CompressedFileValidator.Format.GZIP, csvFileValidator,
+                ".csv", maxExpansionRatio, minCheckedSize.toBytes());
+        zipCsvValidator = new CompressedFileValidator(CompressedFileValidator.Format.ZIP, csvFileValidator,
+                ".csv", maxExpansionRatio, minCheckedSize.toBytes());
+    }
+
     /**
      * 파일명의 확장자를 기반으로 적절한 검증 전략을 반환합니다.
+     * 압축 파일(.csv.gz, .gz, .zip)은 CSV로 보고, 읽는 만큼 해제하며 CSV 검증 전략에 전달하는 전략을 반환합니다.
+     * (.xlsx는 이미 zip 형식이므로 압축 업로드 대상에서 제외)
      *
      * @param filename 파일명
      * @return FileValidatorStrategy 검증 전략
@@ -28,12 +53,50 @@ public class FileValidatorFactory {
         return switch (extension) {
             case "csv" -> csvFileValidator;
             case "xlsx" -> excelFileValidator;
+            case "gz" -> {
+                // .csv.gz 또는 확장자 없는 .gz만 허용 (.xlsx.gz 등은 거절)
+                String inner = getFileExtension(filename.substring(0, filename.length() - ".gz".length())).toLowerCase();
+                if (!inner.isEmpty() && !inner.equals("csv")) {
+                    throw new IllegalArgumentException("gzip 압축은 CSV 파일만 지원합니다. (.csv.gz)");
+                }
+                yield gzipCsvValidator;
+            }
+            case "zip" -> zipCsvValidator;
             default -> throw new IllegalArgumentException(
-                    "지원하지 않는 파일 형식입니다. (.csv 또는 .xlsx 파일만 업로드 가능합니다)"
+                    "지원하지 않는 파일 형식입니다. (.csv, .xlsx, .csv.gz, .gz 또는 .zip 파일만 업로드 가능합니다)"
             );
         };
     }
 
+    /**
+     * 파일이 압축된 형식(.gz, .zip)인지 확인합니다. (스토리지 저장 시 다시 압축하지 않도록)
+     */
+    public boolean isCompressed(String filename) {
+        if (filename == null) {
+            return false;
+        }
+        String extension = getFileExtension(filename).toLowerCase();
+        return extension.equals("gz") || extension.equals("zip");
+    }
+
+    /**
+     * 지표 태그에 쓰는 파일 형식을 반환합니다. (csv, xlsx, csv.gz, gz, zip, 그 외는 other)
+     */
+    public String getFileType(String filename) {
+        if (filename == null) {
+            return "other";
+        }
+        String lower = filename.toLowerCase();
+        if (lower.endsWith(".csv.gz")) {
+            return "csv.gz";
+        }
+        String extension = getFileExtension(lower);
+        return switch (extension) {
+            case "csv", "xlsx", "gz", "zip" -> extension;
+            default -> "other";
+        };
+    }
+
     /**
      * 파일명에서 확장자를 추출합니다.
      *
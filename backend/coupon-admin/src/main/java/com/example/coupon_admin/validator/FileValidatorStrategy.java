@@ -1,6 +1,8 @@
 package com.example.coupon_admin.validator;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.function.LongConsumer;
 
 /**
  * 파일 검증 전략 인터페이스
@@ -14,4 +16,26 @@ public interface FileValidatorStrategy {
      * @return ValidationResult 검증 결과
      */
     ValidationResult validate(InputStream inputStream);
+
+    /**
+     * 파일의 유효성을 검증하며, 검증한 데이터 행 수를 증분으로 알립니다. (진행률 보고용)
+     * 행 진행률을 지원하지 않는 전략은 알림 없이 검증만 합니다.
+     *
+     * @param inputStream 검증할 파일의 InputStream
+     * @param rowProgress 이번에 검증한 데이터 행 수(증분)를 전달받는 리스너
+     * @return ValidationResult 검증 결과
+     */
+    default ValidationResult validate(InputStream inputStream, LongConsumer rowProgress) {
+        return validate(inputStream);
+    }
+
+    /**
+     * 검증을 통과한 파일에서 customer_id를 행 순서대로 읽어 sink에 전달합니다. (DB 적재 등)
+     * 중복 탐지는 하지 않으며, 중복된 ID도 행마다 그대로 전달합니다.
+     *
+     * @param inputStream 읽을 파일의 InputStream
+     * @param sink customer_id를 전달받을 콜백
+     * @throws IOException 읽기 실패 또는 형식 오류가 있는 파일인 경우
+     */
+    void readCustomerIds(InputStream inputStream, CustomerIdSink sink) throws IOException;
 }
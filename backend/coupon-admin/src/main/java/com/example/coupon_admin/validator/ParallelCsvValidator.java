@@ -0,0 +1,318 @@
+package com.example.coupon_admin.validator;
+
+import com.example.coupon_admin.global.io.ProgressInputStream;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.LongConsumer;
+
+/**
+ * 대용량 CSV를 줄 경계 기준의 바이트 구간으로 나누어 여러 코어에서 병렬로 검증합니다.
+ *
+ * 1. 파일을 chunk-size 간격으로 나누고, 각 분할 지점 이후 첫 번째 LF 다음 위치로 경계를 보정
+ * 2. 구간마다 ByteRangeSource로 해당 범위만 읽어 CsvRowParser로 검증 (ForkJoinPool, 동시에 parallelism개까지)
+ * 3. 앞 구간부터 끝나는 대로 행 번호를 보정하며 오류/중복 결과를 하나의 탐지기에 병합
+ *    진행률(바이트, 행)은 구간이 병합된 뒤에 알리고, 순차 검증으로 전환하면 이미 알린 앞부분은 건너뛰므로 두 번 세지 않음
+ *
+ * 비동기 소스({@link #validateAsync})는 구간을 제출할 때 호출 스레드에서 Range GET을 먼저 시작하므로,
+ * 작업자가 앞 구간을 파싱하는 동안 다음 구간들의 요청 왕복이 함께 진행됩니다.
+ *
+ * 동시에 살아 있는 구간 탐지기는 parallelism개로 제한되고 각 구간 탐지기는 메모리 한도를 나누어 가지므로,
+ * 구간 수와 무관하게 중복 탐지 메모리는 한도의 약 2배(병합 탐지기 + 진행 중 구간)를 넘지 않습니다.
+ *
+ * 다음 경우에는 구간 분할을 신뢰할 수 없으므로 전체 파일을 순차 검증으로 수행합니다.
+ * - 분할 지점 이후 한 번의 탐색 구간(64KB) 안에 LF가 없음 (CR 줄바꿈 파일, 비정상적으로 긴 줄)
+ * - 따옴표 필드가 있음 (따옴표 안의 줄바꿈에서 레코드가 잘릴 수 있음)
+ */
+@Component
+public class ParallelCsvValidator {
+
+    private static final int BOUNDARY_PROBE_SIZE = 64 * 1024;
+    private static final LongConsumer NO_PROGRESS = n -> { };
+
+    private final CsvFileValidator csvFileValidator;
+    private final ForkJoinPool pool;
+    private final long minSize;
+    private final long chunkSize;
+
+    public ParallelCsvValidator(
+            CsvFileValidator csvFileValidator,
+            @Value("${app.validation.parallel.parallelism:0}") int parallelism,
+            @Value("${app.validation.parallel.min-size:64MB}") DataSize minSize,
+            @Value("${app.validation.parallel.chunk-size:16MB}") DataSize chunkSize) {
+        this.csvFileValidator = csvFileValidator;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.minSize = minSize.toBytes();
+        this.chunkSize = chunkSize.toBytes();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    // 병렬 검증으로 이득을 볼 수 있는 크기인지 여부
+    public boolean supports(long size) {
+        return size >= minSize && size > chunkSize;
+    }
+
+    /**
+     * @param source 파일의 바이트 구간을 읽을 수 있는 소스
+     * @param size 파일 전체 크기 (bytes)
+     */
+    public ValidationResult validate(ByteRangeSource source, long size) {
+        return validate(source, size, NO_PROGRESS, NO_PROGRESS);
+    }
+
+    /**
+     * @param source 파일의 바이트 구간을 읽을 수 있는 소스
+     * @param size 파일 전체 크기 (bytes)
+     * @param byteProgress 검증을 마친 바이트 수(증분)를 전달받는 리스너 (경계 탐색 읽기는 제외)
+     * @param rowProgress 검증을 마친 데이터 행 수(증분)를 전달받는 리스너
+     */
+    public ValidationResult validate(ByteRangeSource source, long size, LongConsumer byteProgress, LongConsumer rowProgress) {
+        // 구간은 작업자가 실행될 때 엶
+        return validate(source, (start, end) -> () -> source.open(start, end), size, byteProgress, rowProgress);
+    }
+
+    /**
+     * 비동기 소스로 검증합니다. 구간 요청은 구간 작업을 제출하는 시점에 시작하고, 작업자는 응답 스트림을 파싱만 합니다.
+     *
+     * @param source 파일의 바이트 구간을 비동기로 열 수 있는 소스
+     * @param size 파일 전체 크기 (bytes)
+     * @param byteProgress 검증을 마친 바이트 수(증분)를 전달받는 리스너 (경계 탐색 읽기는 제외)
+     * @param rowProgress 검증을 마친 데이터 행 수(증분)를 전달받는 리스너
+     */
+    public ValidationResult validateAsync(AsyncByteRangeSource source, long size, LongConsumer byteProgress,
+                                          LongConsumer rowProgress) {
+        ByteRangeSource blocking = (start, end) -> await(source.open(start, end));
+        return validate(blocking, (start, end) -> {
+            CompletableFuture<InputStream> response = source.open(start, end);
+            return new RangeRequest() {
+                @Override
+                public InputStream open() throws IOException {
+                    return await(response);
+                }
+
+                @Override
+                public void discard() {
+                    response.thenAccept(ParallelCsvValidator::closeQuietly);
+                }
+            };
+        }, size, byteProgress, rowProgress);
+    }
+
+    private ValidationResult validate(ByteRangeSource source, RangeRequester requester, long size,
+                                      LongConsumer byteProgress, LongConsumer rowProgress) {
+        try {
+            List<long[]> chunks = split(source, size);
+            if (chunks == null) {
+                return validateSequentially(source, size, byteProgress, rowProgress);
+            }
+            return validateChunks(source, requester, chunks, size, byteProgress, rowProgress);
+
+        } catch (Exception e) {
+            return ValidationResult.failure("Error while reading CSV file: " + e.getMessage());
+        }
+    }
+
+    // 분할 지점마다 작은 구간을 읽어 다음 LF 위치를 찾고, 그 다음 바이트를 구간 경계로 삼는다 (찾지 못하면 null)
+    private List<long[]> split(ByteRangeSource source, long size) throws IOException {
+        List<long[]> chunks = new ArrayList<>();
+        long start = 0;
+        while (start < size) {
+            long end = start + chunkSize >= size ? size : nextLineStart(source, start + chunkSize, size);
+            if (end < 0) {
+                return null;
+            }
+            chunks.add(new long[]{start, end});
+            start = end;
+        }
+        return chunks;
+    }
+
+    // from 이후 한 번의 탐색 구간 안에서 다음 줄의 시작 위치 (파일 끝까지 LF가 없으면 size, 구간 안에 없으면 -1)
+    private long nextLineStart(ByteRangeSource source, long from, long size) throws IOException {
+        long end = Math.min(from + BOUNDARY_PROBE_SIZE, size);
+        byte[] probe = new byte[(int) (end - from)];
+        try (InputStream in = source.open(from, end)) {
+            int read = in.readNBytes(probe, 0, probe.length);
+            for (int i = 0; i < read; i++) {
+                if (probe[i] == '\n') {
+                    return from + i + 1;
+                }
+            }
+        }
+        return end == size ? size : -1;
+    }
+
+    // 앞 구간부터 순서대로 결과를 받아 병합하며, 병합한 만큼 다음 구간을 제출 (동시에 parallelism개까지)
+    // 진행률은 구간을 병합한 뒤에만 알림 (병합된 구간은 항상 파일 앞부분이므로, 순차 검증은 그만큼 건너뛰고 이어서 알림)
+    private ValidationResult validateChunks(ByteRangeSource source, RangeRequester requester, List<long[]> chunks, long size,
+                                            LongConsumer byteProgress, LongConsumer rowProgress) throws IOException {
+        int window = pool.getParallelism();
+        long chunkMemoryLimit = DuplicateDetector.DEFAULT_MEMORY_LIMIT_BYTES / window;
+        RowErrorCollector errors = new RowErrorCollector();
+        DuplicateDetector duplicates = new DuplicateDetector();
+        long totalRows = 0;
+        long rowOffset = 0;
+        long mergedBytes = 0;
+
+        Deque<ChunkTask> inFlight = new ArrayDeque<>(window);
+        int next = 0;
+        try {
+            while (next < chunks.size() || !inFlight.isEmpty()) {
+                while (next < chunks.size() && inFlight.size() < window) {
+                    long[] range = chunks.get(next);
+                    boolean first = next == 0;
+                    long length = range[1] - range[0];
+                    RangeRequest request = requester.start(range[0], range[1]);
+                    inFlight.addLast(new ChunkTask(request, pool.submit(() -> validateChunk(request, length, first, chunkMemoryLimit))));
+                    next++;
+                }
+
+                ChunkResult chunk = inFlight.pollFirst().task.join();
+                if (chunk.quoteSeen) {
+                    // 앞 구간에는 따옴표가 없었으므로 순차 검증의 앞부분 행 수도 병합한 행 수와 같음
+                    return validateSequentially(source, size,
+                            new SkippingProgress(mergedBytes, byteProgress), new SkippingProgress(totalRows, rowProgress));
+                }
+                if (rowOffset == 0 && chunk.parser.isHeaderRejected()) {
+                    return chunk.parser.result();
+                }
+                errors.merge(chunk.errors, rowOffset);
+                duplicates.merge(chunk.duplicates, rowOffset);
+                totalRows += chunk.parser.getDataRows();
+                rowOffset += chunk.parser.getRecords();
+                mergedBytes += chunk.bytes;
+                byteProgress.accept(chunk.bytes);
+                rowProgress.accept(chunk.parser.getDataRows());
+            }
+        } finally {
+            // 시작하지 않은 구간 작업은 취소하고, 이미 시작한 요청의 응답은 닫아 커넥션을 반환
+            for (ChunkTask pending : inFlight) {
+                if (pending.task.cancel(false)) {
+                    pending.request.discard();
+                }
+            }
+        }
+
+        if (totalRows == 0) {
+            return ValidationResult.failure("File is empty.");
+        }
+        return ValidationResult.ofRows(totalRows, errors, duplicates);
+    }
+
+    private ChunkResult validateChunk(RangeRequest request, long bytes, boolean first, long memoryLimit) {
+        RowErrorCollector errors = new RowErrorCollector();
+        DuplicateDetector duplicates = new DuplicateDetector(DuplicateDetector.DEFAULT_MAX_SAMPLES, memoryLimit);
+        CsvRowParser parser = new CsvRowParser(errors, duplicates, first);
+
+        try (InputStream in = request.open()) {
+            CsvFileValidator.parse(in, parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        parser.finish();
+        return new ChunkResult(parser, errors, duplicates, bytes, parser.isQuoteSeen());
+    }
+
+    private ValidationResult validateSequentially(ByteRangeSource source, long size, LongConsumer byteProgress,
+                                                  LongConsumer rowProgress) throws IOException {
+        return csvFileValidator.validate(new ProgressInputStream(source.open(0, size), byteProgress), rowProgress);
+    }
+
+    // 비동기 응답의 예외 완료를 동기 소스와 같은 IOException으로 변환
+    private static InputStream await(CompletableFuture<InputStream> response) throws IOException {
+        try {
+            return response.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException ignored) {
+            // 읽지 않고 버리는 응답
+        }
+    }
+
+    /**
+     * 구간 하나의 입력. 동기 소스는 open에서 요청하고, 비동기 소스는 만들 때 이미 요청을 시작합니다.
+     */
+    private interface RangeRequest {
+        InputStream open() throws IOException;
+
+        // 작업이 실행되지 않아 열지 않은 입력 정리
+        default void discard() {
+        }
+    }
+
+    /**
+     * 처음 skip만큼은 버리고 그 이후의 증분만 전달하는 진행률 리스너. (순차 검증 한 스레드에서만 호출)
+     */
+    private static final class SkippingProgress implements LongConsumer {
+        private final LongConsumer target;
+        private long skip;
+
+        private SkippingProgress(long skip, LongConsumer target) {
+            this.skip = skip;
+            this.target = target;
+        }
+
+        @Override
+        public void accept(long delta) {
+            long skipped = Math.min(skip, delta);
+            skip -= skipped;
+            if (delta > skipped) {
+                target.accept(delta - skipped);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RangeRequester {
+        RangeRequest start(long start, long end);
+    }
+
+    private record ChunkTask(RangeRequest request, ForkJoinTask<ChunkResult> task) {
+    }
+
+    private static final class ChunkResult {
+        private final CsvRowParser parser;
+        private final RowErrorCollector errors;
+        private final DuplicateDetector duplicates;
+        private final long bytes;
+        private final boolean quoteSeen;
+
+        private ChunkResult(CsvRowParser parser, RowErrorCollector errors, DuplicateDetector duplicates, long bytes,
+                            boolean quoteSeen) {
+            this.parser = parser;
+            this.errors = errors;
+            this.duplicates = duplicates;
+            this.bytes = bytes;
+            this.quoteSeen = quoteSeen;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.coupon_admin.validator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 행 단위 검증 오류를 수집합니다.
+ * 오류 개수는 모두 세지만, 위치 정보는 처음 maxErrors개까지만 보관하여 메모리 사용을 제한합니다.
+ */
+public class RowErrorCollector {
+
+    public static final int DEFAULT_MAX_ERRORS = 100;
+
+    private final int maxErrors;
+    private final List<ValidationResult.RowError> errors = new ArrayList<>();
+    private long errorCount;
+
+    public RowErrorCollector() {
+        this(DEFAULT_MAX_ERRORS);
+    }
+
+    public RowErrorCollector(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    public void add(long row, String reason) {
+        errorCount++;
+        if (errors.size() < maxErrors) {
+            errors.add(new ValidationResult.RowError(row, reason));
+        }
+    }
+
+    /**
+     * 다른 수집기(파일의 뒤쪽 조각)의 결과를 이어 붙입니다.
+     *
+     * @param other 뒤쪽 조각의 수집기
+     * @param rowOffset 조각의 지역 행 번호를 전체 행 번호로 바꾸기 위해 더할 값
+     */
+    public void merge(RowErrorCollector other, long rowOffset) {
+        for (ValidationResult.RowError error : other.errors) {
+            if (errors.size() >= maxErrors) {
+                break;
+            }
+            errors.add(new ValidationResult.RowError(error.getRow() + rowOffset, error.getReason()));
+        }
+        errorCount += other.errorCount;
+    }
+
+    public boolean hasErrors() {
+        return errorCount > 0;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    public List<ValidationResult.RowError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.coupon_admin.validator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일 검증 지표를 기록합니다. (type: csv | xlsx | csv.gz | gz | zip | other, source: stream | mapped | file | storage | parallel)
+ *
+ * - coupon.validation: 검증 한 건의 소요 시간 (outcome: valid | invalid | error, 백분위 히스토그램)
+ * - coupon.validation.row.time: 검증 한 건의 행당 소요 시간 (ns, 파일 크기와 무관하게 검증 전략의 회귀를 비교)
+ * - coupon.validation.rows: 검증한 행 수
+ */
+@Component
+@RequiredArgsConstructor
+public class ValidationMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 검증 한 건을 측정합니다. 예외가 발생하면 error로 기록하고 그대로 던집니다.
+     *
+     * @param type 파일 형식 ({@link FileValidatorFactory#getFileType})
+     * @param source 검증 입력 경로
+     * @param validation 검증 작업
+     */
+    public ValidationResult record(String type, String source, Callable<ValidationResult> validation) throws Exception {
+        long start = System.nanoTime();
+        ValidationResult result;
+        try {
+            result = validation.call();
+        } catch (Exception e) {
+            timer(type, source, "error").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        long nanos = System.nanoTime() - start;
+        String outcome = result.isValid() ? "valid" : "invalid";
+        timer(type, source, outcome).record(nanos, TimeUnit.NANOSECONDS);
+
+        long rows = result.getTotalRows();
+        if (rows > 0) {
+            DistributionSummary.builder("coupon.validation.row.time")
+                    .description("Validation time per row")
+                    .baseUnit("nanoseconds")
+                    .tags("type", type, "source", source)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry)
+                    .record((double) nanos / rows);
+            Counter.builder("coupon.validation.rows")
+                    .description("Validated rows")
+                    .tags("type", type, "source", source, "outcome", outcome)
+                    .register(meterRegistry)
+                    .increment(rows);
+        }
+        return result;
+    }
+
+    private Timer timer(String type, String source, String outcome) {
+        return Timer.builder("coupon.validation")
+                .description("Validation duration per file")
+                .tags("type", type, "source", source, "outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -3,17 +3,68 @@ package com.example.coupon_admin.validator;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.List;
+
 @Getter
 @AllArgsConstructor
 public class ValidationResult {
     private final boolean valid;
     private final String errorMessage;
+    private final long totalRows;         // 검증한 데이터 행 수 (헤더 제외)
+    private final long invalidRows;       // 오류가 있는 데이터 행 수
+    private final List<RowError> errors;  // 처음 N개 오류 위치
+    private final long duplicateRows;             // 앞선 행과 customer_id가 중복된 행 수
+    private final List<DuplicateRow> duplicates;  // 처음 N개 중복 행
+    private final boolean duplicatesTruncated;    // 중복 탐지 메모리 한도 도달 (duplicateRows는 실제 값의 하한)
 
     public static ValidationResult success() {
-        return new ValidationResult(true, null);
+        return new ValidationResult(true, null, 0, 0, List.of(), 0, List.of(), false);
     }
 
     public static ValidationResult failure(String errorMessage) {
-        return new ValidationResult(false, errorMessage);
+        return new ValidationResult(false, errorMessage, 0, 0, List.of(), 0, List.of(), false);
+    }
+
+    /**
+     * 행 단위 검증 결과를 만듭니다. 오류가 하나라도 있으면 실패로 처리합니다.
+     * 중복 customer_id는 실패 사유가 아니며, 개수와 샘플만 함께 전달합니다.
+     * 탐지기가 메모리 한도에 도달했으면 중복 수가 부분값임을 duplicatesTruncated로 함께 전달합니다.
+     *
+     * @param totalRows 검증한 데이터 행 수
+     * @param errors 수집된 행 오류
+     * @param duplicates 중복 탐지 결과
+     */
+    public static ValidationResult ofRows(long totalRows, RowErrorCollector errors, DuplicateDetector duplicates) {
+        List<DuplicateRow> duplicateSamples = List.copyOf(duplicates.getSamples());
+        if (!errors.hasErrors()) {
+            return new ValidationResult(true, null, totalRows, 0, List.of(),
+                    duplicates.getDuplicateCount(), duplicateSamples, duplicates.isTruncated());
+        }
+        RowError first = errors.getErrors().get(0);
+        String message = errors.getErrorCount() + " invalid row(s) out of " + totalRows
+                + ". First error at row " + first.getRow() + ": " + first.getReason();
+        return new ValidationResult(false, message, totalRows, errors.getErrorCount(), List.copyOf(errors.getErrors()),
+                duplicates.getDuplicateCount(), duplicateSamples, duplicates.isTruncated());
+    }
+
+    /**
+     * 오류가 발생한 위치와 사유.
+     * row는 헤더를 1행으로 하는 1부터 시작하는 행(레코드) 번호입니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private final long row;
+        private final String reason;
+    }
+
+    /**
+     * 중복된 customer_id가 나타난 위치.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class DuplicateRow {
+        private final long row;
+        private final long customerId;
     }
 }
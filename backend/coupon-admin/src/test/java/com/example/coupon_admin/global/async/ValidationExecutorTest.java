@@ -0,0 +1,85 @@
+package com.example.coupon_admin.global.async;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidationExecutorTest {
+
+    // 10 bytes/s로 에이징하고 최대 50ms까지만 작은 파일에 양보
+    private final ValidationExecutor executor = new ValidationExecutor(1, 10, DataSize.ofBytes(10), Duration.ofMillis(50),
+            false, new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdown();
+    }
+
+    @Test
+    void cancelRemovesQueuedTaskWithoutRunningIt() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> blocker = executor.submit(1, () -> await(release));
+        AtomicBoolean ran = new AtomicBoolean();
+        CompletableFuture<Boolean> queued = executor.submit(1, () -> ran.getAndSet(true));
+
+        assertThat(queued.cancel(false)).isTrue();
+        assertThat(executor.getQueuedCount()).isZero();
+
+        release.countDown();
+        blocker.get(5, TimeUnit.SECONDS);
+        assertThat(queued).isCancelled();
+        assertThat(ran).isFalse();
+    }
+
+    @Test
+    void cancelFailsOnceTaskIsRunning() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = executor.submit(1, () -> {
+            started.countDown();
+            return await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(running.cancel(false)).isFalse();
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void largeFileIsNotOvertakenBySmallFilesSubmittedAfterMaxPriorityDelay() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> blocker = executor.submit(0, () -> await(release));
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<Boolean> large = executor.submit(1000, () -> order.add("large"));
+        CompletableFuture<Boolean> earlySmall = executor.submit(0, () -> order.add("early-small"));
+        Thread.sleep(100); // max-priority-delay(50ms)보다 오래 대기
+        CompletableFuture<Boolean> lateSmall = executor.submit(0, () -> order.add("late-small"));
+
+        release.countDown();
+        CompletableFuture.allOf(blocker, large, earlySmall, lateSmall).get(5, TimeUnit.SECONDS);
+        assertThat(order).containsExactly("early-small", "large", "late-small");
+    }
+
+    static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.coupon_admin.global.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExpansionLimitInputStreamTest {
+
+    @Test
+    void allowsExpansionWithinRatio() throws IOException {
+        // 압축 100바이트 -> 해제 1,000바이트 (10배), 한도 10배
+        try (InputStream in = limited(new byte[1_000], 100, 10, 0)) {
+            assertThat(in.readAllBytes()).hasSize(1_000);
+        }
+    }
+
+    @Test
+    void stopsWhenRatioIsExceeded() throws IOException {
+        // 압축 10바이트 -> 해제 1,000바이트 (100배), 한도 10배
+        try (InputStream in = limited(new byte[1_000], 10, 10, 0)) {
+            assertThatThrownBy(in::readAllBytes)
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("Possible zip bomb");
+        }
+    }
+
+    @Test
+    void ignoresRatioBelowMinBytes() throws IOException {
+        // 해제 크기가 minBytes 이하인 작은 파일은 비율과 무관하게 허용
+        try (InputStream in = limited(new byte[1_000], 1, 10, 1_000)) {
+            assertThat(in.readAllBytes()).hasSize(1_000);
+        }
+    }
+
+    @Test
+    void singleByteReadsAndSkipsAreCounted() throws IOException {
+        try (InputStream in = limited(new byte[100], 1, 10, 0)) {
+            assertThat(in.skip(10)).isEqualTo(10);
+            assertThatThrownBy(in::read).isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    void usesCurrentCompressedCountOnEveryCheck() throws IOException {
+        // 압축 바이트 수는 읽는 동안 늘어나므로 검사할 때마다 다시 읽음
+        long[] compressed = {1};
+        try (InputStream in = new ExpansionLimitInputStream(new ByteArrayInputStream(new byte[1_000]), () -> compressed[0], 10, 0)) {
+            byte[] buffer = new byte[10];
+            assertThat(in.read(buffer)).isEqualTo(10);
+            compressed[0] = 100;
+            assertThat(in.readAllBytes()).hasSize(990);
+        }
+    }
+
+    private static InputStream limited(byte[] inflated, long compressedBytes, long maxRatio, long minBytes) {
+        return new ExpansionLimitInputStream(new ByteArrayInputStream(inflated), () -> compressedBytes, maxRatio, minBytes);
+    }
+}
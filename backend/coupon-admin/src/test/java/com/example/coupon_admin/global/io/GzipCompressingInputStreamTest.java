@@ -0,0 +1,85 @@
+package com.example.coupon_admin.global.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GzipCompressingInputStreamTest {
+
+    @Test
+    void roundTripsCsvLargerThanReadBuffer() throws IOException {
+        StringBuilder csv = new StringBuilder("customer_id\n");
+        for (int i = 0; i < 100_000; i++) {
+            csv.append(100_000 + i * 7_919L).append('\n');
+        }
+        byte[] content = csv.toString().getBytes(StandardCharsets.US_ASCII);
+
+        byte[] compressed = compress(content);
+
+        assertThat(compressed.length).isLessThan(content.length);
+        assertThat(decompress(compressed)).isEqualTo(content);
+    }
+
+    @Test
+    void roundTripsIncompressibleContent() throws IOException {
+        byte[] content = new byte[300 * 1024];
+        new Random(42).nextBytes(content);
+
+        assertThat(decompress(compress(content))).isEqualTo(content);
+    }
+
+    @Test
+    void roundTripsEmptyContent() throws IOException {
+        assertThat(decompress(compress(new byte[0]))).isEmpty();
+    }
+
+    @Test
+    void singleByteReadsProduceSameStream() throws IOException {
+        byte[] content = "customer_id\n1\n2\n".getBytes(StandardCharsets.US_ASCII);
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (InputStream in = new GzipCompressingInputStream(new ByteArrayInputStream(content))) {
+            int b;
+            while ((b = in.read()) != -1) {
+                compressed.write(b);
+            }
+        }
+
+        assertThat(decompress(compressed.toByteArray())).isEqualTo(content);
+    }
+
+    @Test
+    void closeClosesSource() throws IOException {
+        boolean[] closed = {false};
+        InputStream source = new ByteArrayInputStream(new byte[0]) {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        new GzipCompressingInputStream(source).close();
+
+        assertThat(closed[0]).isTrue();
+    }
+
+    private static byte[] compress(byte[] content) throws IOException {
+        try (InputStream in = new GzipCompressingInputStream(new ByteArrayInputStream(content))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] decompress(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.coupon_admin.service;
+
+import com.example.coupon_admin.domain.FileStatus;
+import com.example.coupon_admin.domain.UploadFile;
+import com.example.coupon_admin.repository.UploadFileRepository;
+import com.example.coupon_admin.storage.StorageService;
+import com.example.coupon_admin.validator.FileValidatorFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChunkedUploadServiceTest {
+
+    private static final long CHUNK_SIZE = DataSize.ofMegabytes(5).toBytes();
+    private static final long FILE_SIZE = 2 * CHUNK_SIZE + 100; // 조각 3개 (마지막 조각 100 bytes)
+
+    private final StorageService storageService = mock(StorageService.class);
+    private final UploadFileRepository uploadFileRepository = mock(UploadFileRepository.class);
+    private final FileValidationService fileValidationService = mock(FileValidationService.class);
+    private final FileValidatorFactory validatorFactory = mock(FileValidatorFactory.class);
+
+    private ChunkedUploadService service;
+    private UploadFile session;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        service = new ChunkedUploadService(storageService, uploadFileRepository, fileValidationService, validatorFactory);
+        ReflectionTestUtils.setField(service, "chunkSize", DataSize.ofBytes(CHUNK_SIZE));
+        ReflectionTestUtils.setField(service, "sessionTtl", Duration.ofHours(24));
+
+        when(storageService.createMultipartUpload(anyString(), anyString())).thenReturn("upload-1");
+        when(uploadFileRepository.save(any(UploadFile.class))).thenAnswer(invocation -> {
+            UploadFile saved = invocation.getArgument(0);
+            if (saved.getId() == null) {
+                ReflectionTestUtils.setField(saved, "id", 1L);
+            }
+            return saved;
+        });
+        when(uploadFileRepository.findById(1L)).thenAnswer(invocation -> Optional.ofNullable(session));
+
+        session = service.initiate("ids.csv", FILE_SIZE, null);
+    }
+
+    @Test
+    void initiateSplitsFileIntoChunks() {
+        assertThat(session.getStatus()).isEqualTo(FileStatus.UPLOADING);
+        assertThat(session.getChunkSize()).isEqualTo(CHUNK_SIZE);
+        assertThat(session.getTotalChunks()).isEqualTo(3);
+        assertThat(session.getUploadedChunks()).isZero();
+    }
+
+    @Test
+    void resendOfAcknowledgedChunkAfterLostResponseIsNotStoredAgain() throws IOException {
+        service.uploadChunk(1L, 1, InputStream.nullInputStream(), CHUNK_SIZE);
+
+        // 응답이 유실되어 클라이언트가 같은 조각을 다시 보냄
+        UploadFile resent = service.uploadChunk(1L, 1, InputStream.nullInputStream(), CHUNK_SIZE);
+        assertThat(resent.getUploadedChunks()).isEqualTo(1);
+        verify(storageService, times(1)).uploadMultipartPart(anyString(), eq("upload-1"), eq(1), any(), anyLong());
+
+        // 재개 지점부터 이어서 업로드
+        service.uploadChunk(1L, 2, InputStream.nullInputStream(), CHUNK_SIZE);
+        service.uploadChunk(1L, 3, InputStream.nullInputStream(), 100);
+        assertThat(service.getSession(1L).getUploadedChunks()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsChunkBeforePreviousOneIsAcknowledged() throws IOException {
+        assertThatThrownBy(() -> service.uploadChunk(1L, 2, InputStream.nullInputStream(), CHUNK_SIZE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("nextChunk=1");
+
+        verify(storageService, never()).uploadMultipartPart(anyString(), anyString(), anyInt(), any(), anyLong());
+        assertThat(session.getUploadedChunks()).isZero();
+    }
+
+    @Test
+    void rejectsLastChunkWithWrongSize() throws IOException {
+        service.uploadChunk(1L, 1, InputStream.nullInputStream(), CHUNK_SIZE);
+        service.uploadChunk(1L, 2, InputStream.nullInputStream(), CHUNK_SIZE);
+
+        // 마지막 조각은 나머지 크기(100)여야 함
+        assertThatThrownBy(() -> service.uploadChunk(1L, 3, InputStream.nullInputStream(), CHUNK_SIZE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("expected=100");
+
+        verify(storageService, never()).uploadMultipartPart(anyString(), anyString(), eq(3), any(), anyLong());
+        assertThat(session.getUploadedChunks()).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentResendThatLosesVersionCheckReturnsAcknowledgedState() throws IOException {
+        // 같은 조각을 동시에 보낸 다른 요청이 먼저 확인하고 저장함
+        doAnswer(invocation -> {
+            session.acknowledgeChunk(1);
+            throw new ObjectOptimisticLockingFailureException(UploadFile.class, 1L);
+        }).when(uploadFileRepository).save(session);
+
+        UploadFile result = service.uploadChunk(1L, 1, InputStream.nullInputStream(), CHUNK_SIZE);
+
+        assertThat(result.getUploadedChunks()).isEqualTo(1);
+    }
+
+    @Test
+    void completeThatLosesVersionCheckDoesNotStartValidationAgain() throws IOException {
+        uploadAllChunks();
+        doThrow(new ObjectOptimisticLockingFailureException(UploadFile.class, 1L)).when(uploadFileRepository).save(session);
+
+        service.complete(1L);
+
+        verify(fileValidationService, never()).validateFile(1L);
+    }
+
+    @Test
+    void completeMergesPartsAndStartsValidation() throws IOException {
+        uploadAllChunks();
+
+        service.complete(1L);
+
+        verify(storageService).completeMultipartUpload(session.getStoragePath(), "upload-1");
+        assertThat(session.isChunkedUploadInProgress()).isFalse();
+        verify(fileValidationService).validateFile(1L);
+    }
+
+    @Test
+    void cleanupAbortsExpiredSessionAndFailsFile() throws IOException {
+        service.uploadChunk(1L, 1, InputStream.nullInputStream(), CHUNK_SIZE);
+        ReflectionTestUtils.setField(session, "lastChunkAt", LocalDateTime.now().minusDays(2));
+        when(uploadFileRepository.findByStatusAndMultipartUploadIdIsNotNullAndLastChunkAtBefore(eq(FileStatus.UPLOADING), any()))
+                .thenReturn(List.of(session));
+
+        service.cleanupAbandonedSessions();
+
+        verify(fileValidationService).fail(eq(session), startsWith("Upload session expired. uploadedChunks=1/3"));
+        verify(storageService).abortMultipartUpload(session.getStoragePath(), "upload-1");
+        assertThat(session.isChunkedUploadInProgress()).isFalse();
+    }
+
+    @Test
+    void cleanupKeepsPartsWhenSessionChangedConcurrently() throws IOException {
+        when(uploadFileRepository.findByStatusAndMultipartUploadIdIsNotNullAndLastChunkAtBefore(eq(FileStatus.UPLOADING), any()))
+                .thenReturn(List.of(session));
+        // 정리 중에 조각이 도착해 세션 버전이 바뀜
+        doThrow(new ObjectOptimisticLockingFailureException(UploadFile.class, 1L))
+                .when(fileValidationService).fail(eq(session), anyString());
+
+        service.cleanupAbandonedSessions();
+
+        verify(storageService, never()).abortMultipartUpload(anyString(), anyString());
+    }
+
+    private void uploadAllChunks() throws IOException {
+        service.uploadChunk(1L, 1, InputStream.nullInputStream(), CHUNK_SIZE);
+        service.uploadChunk(1L, 2, InputStream.nullInputStream(), CHUNK_SIZE);
+        service.uploadChunk(1L, 3, InputStream.nullInputStream(), 100);
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.coupon_admin.service;
+
+import com.example.coupon_admin.domain.CouponIssuance;
+import com.example.coupon_admin.domain.IssuancePartition;
+import com.example.coupon_admin.domain.IssuanceStatus;
+import com.example.coupon_admin.domain.UploadFile;
+import com.example.coupon_admin.repository.CouponIssuanceRepository;
+import com.example.coupon_admin.repository.IssuancePartitionRepository;
+import com.example.coupon_admin.repository.UploadFileRepository;
+import com.example.coupon_admin.storage.StorageEncoding;
+import com.example.coupon_admin.storage.StorageService;
+import com.example.coupon_admin.validator.CsvFileValidator;
+import com.example.coupon_admin.validator.FileValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CouponIssuanceServiceTest {
+
+    private static final int PARTITIONS = 2;
+    private static final int BATCH_SIZE = 3;
+
+    private final StorageService storageService = mock(StorageService.class);
+    private final UploadFileRepository uploadFileRepository = mock(UploadFileRepository.class);
+    private final CouponIssuanceRepository couponIssuanceRepository = mock(CouponIssuanceRepository.class);
+    private final IssuancePartitionRepository issuancePartitionRepository = mock(IssuancePartitionRepository.class);
+    private final FileValidatorFactory validatorFactory = mock(FileValidatorFactory.class);
+    private final DataSource dataSource = mock(DataSource.class);
+
+    private final List<IssuancePartition> partitions = new CopyOnWriteArrayList<>();
+    private final AtomicReference<CouponIssuance> issuance = new AtomicReference<>();
+    private final List<Long> committed = Collections.synchronizedList(new ArrayList<>()); // 커밋된 발급의 customer_id
+    private final AtomicLong failOnCustomer = new AtomicLong(-1); // 이 고객을 COPY로 보낼 때 한 번 실패
+
+    private CouponIssuanceService service;
+    private List<Long> customerIds;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        service = new CouponIssuanceService(storageService, uploadFileRepository, couponIssuanceRepository,
+                issuancePartitionRepository, validatorFactory, dataSource);
+        ReflectionTestUtils.setField(service, "partitionCount", PARTITIONS);
+        ReflectionTestUtils.setField(service, "workers", PARTITIONS);
+        ReflectionTestUtils.setField(service, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.invokeMethod(service, "initPartitionExecutor");
+
+        // 1001~1016, 중간에 앞 행과 같은 고객이 다시 나옴
+        customerIds = new ArrayList<>();
+        LongStream.rangeClosed(1001, 1012).forEach(customerIds::add);
+        customerIds.addAll(List.of(1001L, 1005L, 1002L));
+        LongStream.rangeClosed(1013, 1016).forEach(customerIds::add);
+        StringBuilder csv = new StringBuilder("customer_id\n");
+        customerIds.forEach(id -> csv.append(id).append('\n'));
+        byte[] content = csv.toString().getBytes(StandardCharsets.US_ASCII);
+
+        UploadFile uploadFile = UploadFile.builder().originalFileName("ids.csv").storagePath("key").fileSize((long) content.length).build();
+        ReflectionTestUtils.setField(uploadFile, "id", 1L);
+        uploadFile.complete();
+        when(uploadFileRepository.findById(1L)).thenReturn(Optional.of(uploadFile));
+        when(validatorFactory.getValidator("ids.csv")).thenReturn(new CsvFileValidator());
+        when(storageService.downloadFile(eq("key"), any(StorageEncoding.class)))
+                .thenAnswer(invocation -> new ByteArrayInputStream(content));
+
+        when(couponIssuanceRepository.save(any(CouponIssuance.class))).thenAnswer(invocation -> {
+            CouponIssuance saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "id", 1L);
+            issuance.set(saved);
+            return saved;
+        });
+        when(couponIssuanceRepository.findById(1L)).thenAnswer(invocation -> Optional.ofNullable(issuance.get()));
+        when(issuancePartitionRepository.save(any(IssuancePartition.class))).thenAnswer(invocation -> {
+            IssuancePartition saved = invocation.getArgument(0);
+            if (saved.getId() == null) {
+                ReflectionTestUtils.setField(saved, "id", (long) partitions.size() + 1);
+                partitions.add(saved);
+            }
+            return saved;
+        });
+        when(issuancePartitionRepository.findByIssuanceIdOrderByPartitionNumberAsc(1L))
+                .thenAnswer(invocation -> List.copyOf(partitions));
+        when(issuancePartitionRepository.countByIssuanceIdAndStatus(eq(1L), any(IssuanceStatus.class)))
+                .thenAnswer(invocation -> partitions.stream().filter(p -> p.getStatus() == invocation.getArgument(1)).count());
+        when(issuancePartitionRepository.countByIssuanceIdAndStatusNot(eq(1L), any(IssuanceStatus.class)))
+                .thenAnswer(invocation -> partitions.stream().filter(p -> p.getStatus() != invocation.getArgument(1)).count());
+        when(issuancePartitionRepository.sumIssuedCount(1L))
+                .thenAnswer(invocation -> partitions.stream().mapToLong(IssuancePartition::getIssuedCount).sum());
+        when(dataSource.getConnection()).thenAnswer(invocation -> connection());
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(service, "shutdownPartitionExecutor");
+    }
+
+    @Test
+    void resumesInterruptedPartitionFromCheckpointWithoutIssuingTwice() throws Exception {
+        List<Long> partitionZero = customerIds.stream().distinct()
+                .filter(id -> CouponIssuanceService.partitionOf(id, PARTITIONS) == 0)
+                .toList();
+        assertThat(partitionZero).hasSizeGreaterThan(BATCH_SIZE);
+        // 파티션 0의 두 번째 배치 도중 실패
+        failOnCustomer.set(partitionZero.get(BATCH_SIZE));
+
+        service.startIssuance(1L, "WELCOME", "welcome", null);
+        awaitIssuance(IssuanceStatus.FAILED);
+
+        IssuancePartition interrupted = partitions.get(0);
+        assertThat(interrupted.getStatus()).isEqualTo(IssuanceStatus.FAILED);
+        assertThat(interrupted.getIssuedCount()).isEqualTo(BATCH_SIZE);
+        assertThat(interrupted.getCheckpointRow()).isEqualTo(rowOf(partitionZero.get(BATCH_SIZE - 1)));
+        assertThat(committed).containsAll(partitionZero.subList(0, BATCH_SIZE))
+                .doesNotContainAnyElementsOf(partitionZero.subList(BATCH_SIZE, partitionZero.size()));
+
+        service.resume(1L);
+        awaitIssuance(IssuanceStatus.COMPLETED);
+
+        List<Long> distinct = customerIds.stream().distinct().toList();
+        assertThat(committed).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(distinct);
+        assertThat(issuance.get().getIssuedCount()).isEqualTo(distinct.size());
+        // 실행(시작, 재개)마다 파티션 수와 관계없이 파일을 한 번만 읽음
+        verify(storageService, times(2)).downloadFile(eq("key"), any(StorageEncoding.class));
+    }
+
+    @Test
+    void failsAllPartitionsWhenFileCannotBeSplit() throws Exception {
+        when(storageService.downloadFile(eq("key"), any(StorageEncoding.class)))
+                .thenReturn(new ByteArrayInputStream("customer_id\nabc\n".getBytes(StandardCharsets.US_ASCII)));
+
+        service.startIssuance(1L, "WELCOME", "welcome", null);
+        awaitIssuance(IssuanceStatus.FAILED);
+
+        assertThat(partitions).extracting(IssuancePartition::getStatus).containsOnly(IssuanceStatus.FAILED);
+        assertThat(partitions).extracting(IssuancePartition::getCheckpointRow).containsOnly(0L);
+        assertThat(committed).isEmpty();
+    }
+
+    // 헤더가 1행이므로 i번째(0부터) 고객의 첫 등장 행은 i + 2
+    private long rowOf(long customerId) {
+        return customerIds.indexOf(customerId) + 2;
+    }
+
+    private void awaitIssuance(IssuanceStatus status) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (issuance.get().getStatus() != status && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(issuance.get().getStatus()).isEqualTo(status);
+    }
+
+    // 커밋 시 COPY로 보낸 고객을 committed에 반영하고, 롤백 시 버리는 커넥션
+    private Connection connection() throws SQLException {
+        List<Long> transaction = new ArrayList<>();
+        Connection connection = mock(Connection.class);
+        PGConnection pgConnection = mock(PGConnection.class);
+        CopyManager copyManager = mock(CopyManager.class);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(anyString())).thenAnswer(invocation -> copyIn(transaction));
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+        doAnswer(invocation -> {
+            committed.addAll(transaction);
+            transaction.clear();
+            return null;
+        }).when(connection).commit();
+        doAnswer(invocation -> {
+            transaction.clear();
+            return null;
+        }).when(connection).rollback();
+        return connection;
+    }
+
+    private CopyIn copyIn(List<Long> transaction) throws SQLException {
+        CopyIn copyIn = mock(CopyIn.class);
+        when(copyIn.isActive()).thenReturn(true);
+        doAnswer(invocation -> {
+            byte[] data = invocation.getArgument(0);
+            int offset = invocation.getArgument(1);
+            int length = invocation.getArgument(2);
+            // 레코드: issuance_id \t customer_id \t row_number
+            for (String record : new String(data, offset, length, StandardCharsets.US_ASCII).split("\n")) {
+                long customerId = Long.parseLong(record.split("\t")[1]);
+                if (failOnCustomer.compareAndSet(customerId, -1)) {
+                    throw new SQLException("connection reset");
+                }
+                transaction.add(customerId);
+            }
+            return null;
+        }).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+        return copyIn;
+    }
+}
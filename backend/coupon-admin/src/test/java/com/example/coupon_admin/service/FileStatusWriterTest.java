@@ -0,0 +1,153 @@
+package com.example.coupon_admin.service;
+
+import com.example.coupon_admin.domain.UploadFile;
+import com.example.coupon_admin.domain.UploadFileChangedEvent;
+import com.example.coupon_admin.repository.UploadFileRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FileStatusWriterTest {
+
+    private final UploadFileRepository uploadFileRepository = mock(UploadFileRepository.class);
+    private final DataSource dataSource = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+    private final List<Object> events = new ArrayList<>();
+    private final List<String> executed = new ArrayList<>();
+
+    private FileStatusWriter writer;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+
+        writer = new FileStatusWriter(uploadFileRepository, dataSource, events::add);
+        ReflectionTestUtils.setField(writer, "enabled", true);
+        ReflectionTestUtils.setField(writer, "flushInterval", Duration.ofHours(1)); // 주기 반영 없이 테스트에서 직접 반영
+        ReflectionTestUtils.setField(writer, "batchSize", 500);
+        writer.init();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.shutdown();
+    }
+
+    @Test
+    void keepsLatestStateAndRunsEarlierAfterFlushTasksFirst() throws SQLException {
+        UploadFile file = file(1L);
+        file.startValidation();
+        writer.write(file, () -> executed.add("started"));
+        file.complete();
+        writer.write(file, () -> executed.add("completed"));
+
+        flush();
+
+        verify(statement, times(1)).addBatch();
+        verify(statement).setString(1, "COMPLETED");
+        assertThat(executed).containsExactly("started", "completed");
+        assertThat(statusEvents()).containsExactly("COMPLETED");
+    }
+
+    @Test
+    void publishesSnapshotTakenAtWriteTime() {
+        UploadFile file = file(1L);
+        file.complete();
+        writer.write(file);
+        file.fail("changed after write"); // 기록 후 반영 전에 엔티티가 바뀜 (다시 기록하지 않음)
+
+        flush();
+
+        assertThat(statusEvents()).containsExactly("COMPLETED");
+    }
+
+    @Test
+    void retriesFailedBatchWithoutOverwritingNewerWrite() throws SQLException {
+        UploadFile file = file(1L);
+        file.startValidation();
+        writer.write(file, () -> executed.add("started"));
+        // 첫 반영 도중 같은 파일의 더 최신 기록이 들어오고, 반영은 실패
+        doAnswer(invocation -> {
+            file.complete();
+            writer.write(file, () -> executed.add("completed"));
+            throw new SQLException("connection reset");
+        }).doReturn(new int[]{1}).when(statement).executeBatch();
+
+        flush();
+        assertThat(events).isEmpty();
+        assertThat(writer.getPendingCount()).isEqualTo(1);
+
+        flush();
+        verify(statement).setString(1, "VALIDATING");
+        verify(statement).setString(1, "COMPLETED");
+        assertThat(executed).containsExactly("started", "completed");
+        assertThat(statusEvents()).containsExactly("COMPLETED");
+    }
+
+    @Test
+    void savesThroughRepositoryWhenFlushFailsAfterShutdown() throws Exception {
+        writer.shutdown();
+        when(statement.executeBatch()).thenThrow(new SQLException("database is shutting down"));
+        UploadFile file = file(1L);
+        file.fail("late failure");
+
+        writer.write(file, () -> executed.add("failed"));
+
+        verify(uploadFileRepository).save(file);
+        assertThat(executed).containsExactly("failed");
+        assertThat(writer.getPendingCount()).isZero();
+    }
+
+    @Test
+    void doesNotFallBackWhenFlushSucceedsAfterShutdown() throws Exception {
+        writer.shutdown();
+        UploadFile file = file(1L);
+        file.complete();
+
+        writer.write(file);
+
+        verify(statement).executeBatch();
+        verify(uploadFileRepository, never()).save(file);
+        assertThat(statusEvents()).containsExactly("COMPLETED");
+    }
+
+    private void flush() {
+        ReflectionTestUtils.invokeMethod(writer, "flush");
+    }
+
+    private List<String> statusEvents() {
+        return events.stream()
+                .map(event -> ((UploadFileChangedEvent) event).getStatus().getStatus())
+                .toList();
+    }
+
+    private static UploadFile file(Long id) {
+        UploadFile file = UploadFile.builder()
+                .originalFileName("ids.csv")
+                .storagePath("key")
+                .fileSize(10L)
+                .build();
+        ReflectionTestUtils.setField(file, "id", id);
+        return file;
+    }
+}
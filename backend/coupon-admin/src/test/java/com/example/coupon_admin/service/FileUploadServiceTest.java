@@ -0,0 +1,120 @@
+package com.example.coupon_admin.service;
+
+import com.example.coupon_admin.domain.UploadFile;
+import com.example.coupon_admin.repository.UploadFileRepository;
+import com.example.coupon_admin.storage.StorageEncoding;
+import com.example.coupon_admin.storage.StorageService;
+import com.example.coupon_admin.validator.CsvFileValidator;
+import com.example.coupon_admin.validator.FileValidatorFactory;
+import com.example.coupon_admin.validator.ValidationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FileUploadServiceTest {
+
+    private final StorageService storageService = mock(StorageService.class);
+    private final UploadFileRepository uploadFileRepository = mock(UploadFileRepository.class);
+    private final FileValidationService fileValidationService = mock(FileValidationService.class);
+    private final FileValidatorFactory validatorFactory = mock(FileValidatorFactory.class);
+    private final CountDownLatch uploadStarted = new CountDownLatch(1);
+
+    private FileUploadService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        service = new FileUploadService(storageService, uploadFileRepository, fileValidationService, validatorFactory,
+                new SimpleMeterRegistry(), Optional.empty());
+        ReflectionTestUtils.setField(service, "storageEncoding", StorageEncoding.IDENTITY);
+
+        when(validatorFactory.getValidator("ids.csv")).thenReturn(new CsvFileValidator());
+        when(validatorFactory.getFileType("ids.csv")).thenReturn("csv");
+        doAnswer(invocation -> {
+            uploadStarted.countDown();
+            throw new IOException("storage unavailable");
+        }).when(storageService).uploadFile(anyString(), any(InputStream.class), anyLong(), any(), any(StorageEncoding.class));
+    }
+
+    @Test
+    void waitsForRunningValidationBeforeDeletingSpoolFileWhenUploadFails() {
+        AtomicBoolean spoolReadable = new AtomicBoolean();
+        AtomicReference<CompletableFuture<ValidationResult>> validation = new AtomicReference<>();
+        when(fileValidationService.validateLocalFile(any(UploadFile.class), any(CsvFileValidator.class), any(Path.class)))
+                .thenAnswer(invocation -> {
+                    Path spoolFile = invocation.getArgument(2);
+                    CompletableFuture<ValidationResult> running = new RunningValidation();
+                    validation.set(running);
+                    Thread.ofPlatform().start(() -> {
+                        try {
+                            // 업로드가 실패한 뒤에도 한동안 스풀 파일을 읽는 검증
+                            uploadStarted.await(5, TimeUnit.SECONDS);
+                            Thread.sleep(100);
+                            spoolReadable.set(Files.isReadable(spoolFile));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        running.complete(ValidationResult.failure("not used"));
+                    });
+                    return running;
+                });
+
+        assertThatThrownBy(() -> service.upload(csv()))
+                .isInstanceOf(IOException.class)
+                .hasMessage("storage unavailable");
+
+        assertThat(validation.get()).isDone();
+        assertThat(spoolReadable).isTrue();
+        verify(fileValidationService).fail(any(UploadFile.class), startsWith("Upload error"));
+        verify(fileValidationService, never()).applyResult(any(), any());
+    }
+
+    @Test
+    void cancelsQueuedValidationWhenUploadFails() {
+        CompletableFuture<ValidationResult> queued = new CompletableFuture<>();
+        when(fileValidationService.validateLocalFile(any(UploadFile.class), any(CsvFileValidator.class), any(Path.class)))
+                .thenReturn(queued);
+
+        assertThatThrownBy(() -> service.upload(csv())).isInstanceOf(IOException.class);
+
+        assertThat(queued).isCancelled();
+        verify(fileValidationService, never()).applyResult(any(), any());
+    }
+
+    private static MockMultipartFile csv() {
+        return new MockMultipartFile("file", "ids.csv", "text/csv", "customer_id\n1\n2\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 이미 실행 중인 검증 (ValidationExecutor와 같이 cancel이 실패)
+    private static final class RunningValidation extends CompletableFuture<ValidationResult> {
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.coupon_admin.validator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvFileValidatorTest {
+
+    private static final byte[] NO_TRAILING_NEWLINE = "customer_id\n1\n2\n3".getBytes(StandardCharsets.US_ASCII);
+
+    private final CsvFileValidator validator = new CsvFileValidator();
+
+    @Test
+    void reportsLastRowWithoutTrailingNewlineFromStream() {
+        AtomicLong rows = new AtomicLong();
+
+        ValidationResult result = validator.validate(new ByteArrayInputStream(NO_TRAILING_NEWLINE), rows::addAndGet);
+
+        assertThat(result.getTotalRows()).isEqualTo(3);
+        assertThat(rows.get()).isEqualTo(3);
+    }
+
+    @Test
+    void reportsLastRowWithoutTrailingNewlineFromMappedFile(@TempDir Path dir) throws IOException {
+        Path file = Files.write(dir.resolve("ids.csv"), NO_TRAILING_NEWLINE);
+        AtomicLong bytes = new AtomicLong();
+        AtomicLong rows = new AtomicLong();
+
+        ValidationResult result = validator.validate(file, bytes::addAndGet, rows::addAndGet);
+
+        assertThat(result.getTotalRows()).isEqualTo(3);
+        assertThat(rows.get()).isEqualTo(3);
+        assertThat(bytes.get()).isEqualTo(NO_TRAILING_NEWLINE.length);
+    }
+}
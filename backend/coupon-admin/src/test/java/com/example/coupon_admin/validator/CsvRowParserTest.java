@@ -0,0 +1,156 @@
+package com.example.coupon_admin.validator;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class CsvRowParserTest {
+
+    private static final byte[] BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    @Test
+    void acceptsUtf8Bom() {
+        ValidationResult result = parse(concat(BOM, bytes("customer_id\n1\n2\n")));
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getTotalRows()).isEqualTo(2);
+    }
+
+    @Test
+    void parsesQuotedFields() {
+        ValidationResult result = parse(bytes("\"customer_id\"\n\"123\"\n\"\"\n\"1\"\"2\"\n\"4\"x\n"));
+
+        assertThat(result.getTotalRows()).isEqualTo(4);
+        assertThat(result.getErrors())
+                .extracting(ValidationResult.RowError::getRow, ValidationResult.RowError::getReason)
+                .containsExactly(
+                        tuple(3L, CsvRowParser.EMPTY_VALUE),
+                        tuple(4L, CsvRowParser.INVALID_FORMAT),
+                        tuple(5L, CsvRowParser.MALFORMED_QUOTE));
+    }
+
+    @Test
+    void newlineInsideQuotesDoesNotEndRecord() {
+        ValidationResult result = parse(bytes("customer_id\n\"1\n2\"\n3\n"));
+
+        // 따옴표 안 줄바꿈은 같은 레코드 (숫자가 아니므로 형식 오류), 다음 레코드는 3행
+        assertThat(result.getTotalRows()).isEqualTo(2);
+        assertThat(result.getInvalidRows()).isEqualTo(1);
+        assertThat(result.getErrors().get(0).getRow()).isEqualTo(2);
+        assertThat(result.getErrors().get(0).getReason()).isEqualTo(CsvRowParser.INVALID_FORMAT);
+    }
+
+    @Test
+    void reportsUnterminatedQuoteAtEnd() {
+        ValidationResult result = parse(bytes("customer_id\n1\n\"2"));
+
+        assertThat(result.getTotalRows()).isEqualTo(2);
+        assertThat(result.getErrors().get(0).getReason()).isEqualTo(CsvRowParser.UNTERMINATED_QUOTE);
+    }
+
+    @Test
+    void treatsCrlfAsOneLineBreak() {
+        ValidationResult result = parse(bytes("customer_id\r\n1\r\n2\r\n"));
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getTotalRows()).isEqualTo(2);
+    }
+
+    @Test
+    void treatsLoneCrAsLineBreak() {
+        ValidationResult result = parse(bytes("customer_id\r1\r2\r"));
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getTotalRows()).isEqualTo(2);
+    }
+
+    @Test
+    void crCrIsBlankLine() {
+        ValidationResult result = parse(bytes("customer_id\r\n1\r\r2\n"));
+
+        assertThat(result.getTotalRows()).isEqualTo(3);
+        assertThat(result.getErrors())
+                .extracting(ValidationResult.RowError::getRow, ValidationResult.RowError::getReason)
+                .containsExactly(tuple(3L, CsvRowParser.BLANK_LINE));
+    }
+
+    @Test
+    void headerOnlyFileIsEmpty() {
+        ValidationResult result = parse(bytes("customer_id\n"));
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getErrorMessage()).isEqualTo("File is empty.");
+    }
+
+    @Test
+    void rejectsBadHeaderWithoutReadingRows() {
+        CsvRowParser parser = new CsvRowParser(new RowErrorCollector(), new DuplicateDetector());
+        parser.feed(ByteBuffer.wrap(bytes("id\n1\n2\n")));
+        parser.finish();
+
+        assertThat(parser.isHeaderRejected()).isTrue();
+        assertThat(parser.getDataRows()).isZero();
+        assertThat(parser.result().getErrorMessage()).isEqualTo("Invalid header. Expected 'customer_id'.");
+    }
+
+    @Test
+    void finishesLastLineWithoutNewline() {
+        ValidationResult result = parse(bytes("customer_id\n5\n5"));
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getTotalRows()).isEqualTo(2);
+        assertThat(result.getDuplicateRows()).isEqualTo(1);
+        assertThat(result.getDuplicates().get(0).getRow()).isEqualTo(3);
+        assertThat(result.getDuplicates().get(0).getCustomerId()).isEqualTo(5);
+    }
+
+    @Test
+    void reportsLongValuesAndExtraColumns() {
+        ValidationResult result = parse(bytes("customer_id\n1234567890123456789\n1,2\n 7 \n"));
+
+        assertThat(result.getTotalRows()).isEqualTo(3);
+        assertThat(result.getErrors())
+                .extracting(ValidationResult.RowError::getReason)
+                .containsExactly(CsvRowParser.TOO_LONG, CsvRowParser.EXTRA_COLUMN);
+    }
+
+    @Test
+    void sameResultWhenFedOneByteAtATime() {
+        byte[] content = concat(BOM, bytes("customer_id\r\n1\r\n\"2\"\r\n\r\n1\r\nx"));
+
+        ValidationResult whole = parse(content);
+
+        CsvRowParser parser = new CsvRowParser(new RowErrorCollector(), new DuplicateDetector());
+        for (byte b : content) {
+            parser.feed(ByteBuffer.wrap(new byte[]{b}));
+        }
+        parser.finish();
+        ValidationResult split = parser.result();
+
+        assertThat(split.getTotalRows()).isEqualTo(whole.getTotalRows()).isEqualTo(5);
+        assertThat(split.getInvalidRows()).isEqualTo(whole.getInvalidRows()).isEqualTo(2);
+        assertThat(split.getDuplicateRows()).isEqualTo(whole.getDuplicateRows()).isEqualTo(1);
+    }
+
+    private static ValidationResult parse(byte[] content) {
+        CsvRowParser parser = new CsvRowParser(new RowErrorCollector(), new DuplicateDetector());
+        parser.feed(ByteBuffer.wrap(content));
+        parser.finish();
+        return parser.result();
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] joined = new byte[first.length + second.length];
+        System.arraycopy(first, 0, joined, 0, first.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+        return joined;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.coupon_admin.validator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class DuplicateDetectorTest {
+
+    @Test
+    void countsRepeatedIds() {
+        DuplicateDetector detector = new DuplicateDetector();
+
+        assertThat(detector.add(2, 100)).isFalse();
+        assertThat(detector.add(3, 200)).isFalse();
+        assertThat(detector.add(4, 100)).isTrue();
+
+        assertThat(detector.getDuplicateCount()).isEqualTo(1);
+        assertThat(detector.getSamples())
+                .extracting(ValidationResult.DuplicateRow::getRow, ValidationResult.DuplicateRow::getCustomerId)
+                .containsExactly(tuple(4L, 100L));
+    }
+
+    @Test
+    void mergeCountsDuplicatesWithinAndAcrossChunks() {
+        // 앞쪽 조각: 1, 2, 3, 1 (조각 내 중복 1)
+        DuplicateDetector head = new DuplicateDetector();
+        head.add(2, 1);
+        head.add(3, 2);
+        head.add(4, 3);
+        head.add(5, 1);
+
+        // 뒤쪽 조각 (지역 행 번호 1부터): 3, 4, 4 (앞 조각과 중복 1, 조각 내 중복 1)
+        DuplicateDetector tail = new DuplicateDetector();
+        tail.add(1, 3);
+        tail.add(2, 4);
+        tail.add(3, 4);
+
+        head.merge(tail, 5);
+
+        assertThat(head.getDuplicateCount()).isEqualTo(3);
+        // 조각 내 중복 샘플은 전체 행 번호로 바뀌고, 조각 간 중복은 샘플이 남지 않음
+        assertThat(head.getSamples())
+                .extracting(ValidationResult.DuplicateRow::getRow, ValidationResult.DuplicateRow::getCustomerId)
+                .containsExactly(tuple(5L, 1L), tuple(8L, 4L));
+
+        // 합친 뒤에도 두 조각의 ID를 모두 기억
+        assertThat(head.add(9, 4)).isTrue();
+        assertThat(head.add(10, 5)).isFalse();
+    }
+
+    @Test
+    void repeatedIdInTailThatAlsoAppearsInHeadCountsEveryOccurrence() {
+        DuplicateDetector head = new DuplicateDetector();
+        head.add(2, 7);
+
+        DuplicateDetector tail = new DuplicateDetector();
+        tail.add(1, 7);
+        tail.add(2, 7);
+
+        head.merge(tail, 2);
+
+        assertThat(head.getDuplicateCount()).isEqualTo(2);
+    }
+
+    @Test
+    void mergeKeepsSampleLimit() {
+        DuplicateDetector head = new DuplicateDetector(1, DuplicateDetector.DEFAULT_MEMORY_LIMIT_BYTES);
+        head.add(2, 1);
+        head.add(3, 1);
+
+        DuplicateDetector tail = new DuplicateDetector(1, DuplicateDetector.DEFAULT_MEMORY_LIMIT_BYTES);
+        tail.add(1, 2);
+        tail.add(2, 2);
+
+        head.merge(tail, 3);
+
+        assertThat(head.getDuplicateCount()).isEqualTo(2);
+        assertThat(head.getSamples()).hasSize(1);
+    }
+
+    @Test
+    void truncatesWhenMemoryLimitIsReachedAndMergePropagatesIt() {
+        // 한도 0: 첫 메모리 확인 시점(65,536개)에 기록 중단
+        DuplicateDetector tail = new DuplicateDetector(DuplicateDetector.DEFAULT_MAX_SAMPLES, 0);
+        for (long id = 0; id < 70_000; id++) {
+            tail.add(id + 1, id * 1_000_003L);
+        }
+        assertThat(tail.isTruncated()).isTrue();
+
+        DuplicateDetector head = new DuplicateDetector();
+        assertThat(head.isTruncated()).isFalse();
+        head.merge(tail, 1);
+
+        assertThat(head.isTruncated()).isTrue();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.coupon_admin.validator;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExcelFileValidatorTest {
+
+    // 행 진행률 알림 간격(1024)의 배수가 아닌 행 수
+    private static final int ROWS = 1500;
+
+    private final ExcelFileValidator validator = new ExcelFileValidator();
+
+    @Test
+    void reportsEveryRowFromLocalFile(@TempDir Path dir) throws IOException {
+        Path file = xlsx(dir.resolve("ids.xlsx"), ROWS);
+        AtomicLong rows = new AtomicLong();
+
+        ValidationResult result = validator.validate(file, rows::addAndGet);
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getTotalRows()).isEqualTo(ROWS);
+        assertThat(rows.get()).isEqualTo(ROWS);
+    }
+
+    @Test
+    void reportsEveryRowFromStream(@TempDir Path dir) throws IOException {
+        Path file = xlsx(dir.resolve("ids.xlsx"), ROWS);
+        AtomicLong rows = new AtomicLong();
+
+        ValidationResult result = validator.validate(Files.newInputStream(file), rows::addAndGet);
+
+        assertThat(result.getTotalRows()).isEqualTo(ROWS);
+        assertThat(rows.get()).isEqualTo(ROWS);
+    }
+
+    private static Path xlsx(Path file, int rows) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet("customers");
+            sheet.createRow(0).createCell(0).setCellValue(CustomerIdFormat.HEADER);
+            for (int row = 1; row <= rows; row++) {
+                sheet.createRow(row).createCell(0).setCellValue(Long.toString(row));
+            }
+            workbook.write(out);
+        }
+        return file;
+    }
+}
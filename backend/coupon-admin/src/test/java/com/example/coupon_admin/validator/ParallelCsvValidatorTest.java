@@ -0,0 +1,132 @@
+package com.example.coupon_admin.validator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ParallelCsvValidatorTest {
+
+    private final CsvFileValidator csvFileValidator = new CsvFileValidator();
+    private final ParallelCsvValidator validator =
+            new ParallelCsvValidator(csvFileValidator, 2, DataSize.ofBytes(0), DataSize.ofBytes(64));
+
+    @AfterEach
+    void tearDown() {
+        validator.shutdown();
+    }
+
+    @Test
+    void mergesChunksWithGlobalRowNumbers() {
+        StringBuilder csv = new StringBuilder("customer_id\n");
+        for (int i = 1; i <= 300; i++) {
+            if (i % 50 == 0) {
+                csv.append("x").append(i).append('\n');       // 형식 오류: 51, 101, 151, 201, 251, 301행
+            } else if (i > 290) {
+                csv.append(i - 290).append('\n');             // 앞쪽 구간의 ID와 중복 (구간 간 중복)
+            } else {
+                csv.append(i).append('\n');
+            }
+        }
+        byte[] content = bytes(csv.toString());
+
+        ValidationResult parallel = validator.validate(source(content, new AtomicInteger()), content.length);
+        ValidationResult sequential = csvFileValidator.validate(new ByteArrayInputStream(content));
+
+        assertThat(parallel.getTotalRows()).isEqualTo(sequential.getTotalRows()).isEqualTo(300);
+        assertThat(parallel.getInvalidRows()).isEqualTo(sequential.getInvalidRows()).isEqualTo(6);
+        assertThat(parallel.getErrors())
+                .extracting(ValidationResult.RowError::getRow)
+                .containsExactly(51L, 101L, 151L, 201L, 251L, 301L);
+        assertThat(parallel.getDuplicateRows()).isEqualTo(sequential.getDuplicateRows()).isEqualTo(9);
+    }
+
+    @Test
+    void fallsBackToSequentialWhenQuotedNewlineCrossesChunks() {
+        StringBuilder csv = new StringBuilder("customer_id\n");
+        for (int i = 1; i <= 100; i++) {
+            csv.append(i).append('\n');
+            if (i == 10) {
+                csv.append("\"").append("1".repeat(8)).append("\n").append("2".repeat(8)).append("\"\n");
+            }
+        }
+        byte[] content = bytes(csv.toString());
+
+        ValidationResult parallel = validator.validate(source(content, new AtomicInteger()), content.length);
+        ValidationResult sequential = csvFileValidator.validate(new ByteArrayInputStream(content));
+
+        assertThat(parallel.getTotalRows()).isEqualTo(sequential.getTotalRows()).isEqualTo(101);
+        assertThat(parallel.getErrors())
+                .extracting(ValidationResult.RowError::getRow, ValidationResult.RowError::getReason)
+                .isEqualTo(sequential.getErrors().stream()
+                        .map(error -> tuple(error.getRow(), error.getReason()))
+                        .toList());
+    }
+
+    @Test
+    void reportsEachByteAndRowOnceEvenAfterQuoteFallback() {
+        StringBuilder csv = new StringBuilder("customer_id\n");
+        for (int i = 1; i <= 300; i++) {
+            csv.append(i).append('\n');
+        }
+        byte[] plain = bytes(csv.toString());
+        byte[] quoted = bytes(csv.append("\"301\"\n").toString()); // 마지막 구간에서 따옴표 발견
+
+        for (byte[] content : new byte[][]{plain, quoted}) {
+            AtomicLong bytes = new AtomicLong();
+            AtomicLong rows = new AtomicLong();
+
+            ValidationResult result = validator.validate(source(content, new AtomicInteger()), content.length,
+                    bytes::addAndGet, rows::addAndGet);
+
+            assertThat(bytes.get()).isEqualTo(content.length);
+            assertThat(rows.get()).isEqualTo(result.getTotalRows());
+        }
+    }
+
+    @Test
+    void fallsBackToSequentialWithoutProbingToEndForCrOnlyFile() {
+        StringBuilder csv = new StringBuilder("customer_id\r");
+        for (int i = 1; i <= 20_000; i++) {
+            csv.append(i).append('\r');
+        }
+        byte[] content = bytes(csv.toString());
+        AtomicInteger opens = new AtomicInteger();
+
+        ValidationResult result = validator.validate(source(content, opens), content.length);
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getTotalRows()).isEqualTo(20_000);
+        // 경계 탐색 1회 + 순차 검증 1회
+        assertThat(opens.get()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsInvalidHeaderFromFirstChunk() {
+        byte[] content = bytes("id\n" + "1\n".repeat(100));
+
+        ValidationResult result = validator.validate(source(content, new AtomicInteger()), content.length);
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getErrorMessage()).isEqualTo("Invalid header. Expected 'customer_id'.");
+    }
+
+    private static ByteRangeSource source(byte[] content, AtomicInteger opens) {
+        return (start, end) -> {
+            opens.incrementAndGet();
+            return new ByteArrayInputStream(Arrays.copyOfRange(content, (int) start, (int) end));
+        };
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.US_ASCII);
+    }
+}